@@ -0,0 +1,103 @@
+package org.example.list.benchmark;
+
+import org.example.list.AppendOnlyCustomArrayList;
+import org.example.list.ConcurrentCustomArrayList;
+import org.example.list.CustomArrayList;
+import org.example.list.api.ICustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Время добавления OPERATIONS элементов в общий список из нескольких потоков-производителей.
+ * Сравниваются неблокирующий AppendOnlyCustomArrayList, ConcurrentCustomArrayList (блокировка записи)
+ * и CustomArrayList, защищенный synchronized блоком.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AppendOnlyCustomArrayListBenchmark {
+
+    private static final int OPERATIONS = 1 << 20;
+
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    private int producers;
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newFixedThreadPool(producers);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public ICustomArrayList<Integer> appendOnly() throws Exception {
+        AppendOnlyCustomArrayList<Integer> list = new AppendOnlyCustomArrayList<>();
+        run(() -> {
+            for (int i = 0; i < OPERATIONS / producers; i++) {
+                list.add(i);
+            }
+            return null;
+        });
+        return list;
+    }
+
+    @Benchmark
+    public ICustomArrayList<Integer> stampedLock() throws Exception {
+        ConcurrentCustomArrayList<Integer> list = new ConcurrentCustomArrayList<>();
+        run(() -> {
+            for (int i = 0; i < OPERATIONS / producers; i++) {
+                list.add(i);
+            }
+            return null;
+        });
+        return list;
+    }
+
+    @Benchmark
+    public ICustomArrayList<Integer> synchronizedList() throws Exception {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        run(() -> {
+            for (int i = 0; i < OPERATIONS / producers; i++) {
+                synchronized (list) {
+                    list.add(i);
+                }
+            }
+            return null;
+        });
+        return list;
+    }
+
+    private void run(Callable<Void> producer) throws Exception {
+        Future<?>[] futures = new Future<?>[producers];
+        for (int p = 0; p < producers; p++) {
+            futures[p] = executor.submit(producer);
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.list.benchmark;
+
+import org.example.list.ConcurrentCustomArrayList;
+import org.example.list.CustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пропускная способность ConcurrentCustomArrayList при смешанной нагрузке 95% чтений и 5% записей
+ * (19 читающих потоков на 1 пишущий) в сравнении с CustomArrayList, защищенным общим synchronized блоком.
+ * Для замера масштабируемости количество потоков группы задается при запуске, например: -tg 19,1 или -tg 38,2
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentCustomArrayListBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private ConcurrentCustomArrayList<Integer> concurrentList;
+
+    private CustomArrayList<Integer> synchronizedList;
+
+    @Setup
+    public void setup() {
+        concurrentList = new ConcurrentCustomArrayList<>(size);
+        synchronizedList = new CustomArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            concurrentList.add(i);
+            synchronizedList.add(i);
+        }
+    }
+
+    @Benchmark
+    @Group("stampedLock")
+    @GroupThreads(19)
+    public Integer stampedLockRead() {
+        return concurrentList.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    @Benchmark
+    @Group("stampedLock")
+    @GroupThreads(1)
+    public void stampedLockWrite() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        concurrentList.replace(random.nextInt(size), random.nextInt());
+    }
+
+    @Benchmark
+    @Group("synchronized")
+    @GroupThreads(19)
+    public Integer synchronizedRead() {
+        int index = ThreadLocalRandom.current().nextInt(size);
+        synchronized (synchronizedList) {
+            return synchronizedList.get(index);
+        }
+    }
+
+    @Benchmark
+    @Group("synchronized")
+    @GroupThreads(1)
+    public void synchronizedWrite() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index = random.nextInt(size);
+        int value = random.nextInt();
+        synchronized (synchronizedList) {
+            synchronizedList.replace(index, value);
+        }
+    }
+}
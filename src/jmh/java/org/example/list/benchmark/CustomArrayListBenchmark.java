@@ -0,0 +1,170 @@
+package org.example.list.benchmark;
+
+import org.example.list.CustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки основных операций CustomArrayList в сравнении с java.util.ArrayList.
+ * Методы с суффиксом Custom замеряют CustomArrayList, с суффиксом Jdk - ArrayList.
+ * <ul>
+ *     <li>append - добавление size элементов в пустой список емкостью по умолчанию (включает расширения)</li>
+ *     <li>appendPresized - то же в список с заранее заданной емкостью, разница с append показывает стоимость grow</li>
+ *     <li>insertMiddle - add(int, E) в середину списка (и удаление с конца для сохранения размера)</li>
+ *     <li>removeMiddle - remove(int) из середины списка (и добавление в конец для сохранения размера)</li>
+ *     <li>get - 1024 обращения по случайным индексам</li>
+ *     <li>iterate - проход итератором по всему списку</li>
+ *     <li>forEach - внутренняя итерация по всему списку</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CustomArrayListBenchmark {
+
+    private static final int RANDOM_ACCESSES = 1024;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private Integer[] values;
+
+    private int[] indices;
+
+    private CustomArrayList<Integer> customList;
+
+    private ArrayList<Integer> jdkList;
+
+    @Setup
+    public void setup() {
+        values = Distribution.RANDOM.generate(size);
+        customList = new CustomArrayList<>();
+        jdkList = new ArrayList<>();
+        for (Integer value : values) {
+            customList.add(value);
+            jdkList.add(value);
+        }
+        Random random = new Random(size);
+        indices = new int[RANDOM_ACCESSES];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> appendCustom() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> appendJdk() {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> appendPresizedCustom() {
+        CustomArrayList<Integer> list = new CustomArrayList<>(size);
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> appendPresizedJdk() {
+        ArrayList<Integer> list = new ArrayList<>(size);
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public Integer insertMiddleCustom() {
+        customList.add(size >> 1, values[0]);
+        return customList.remove(size);
+    }
+
+    @Benchmark
+    public Integer insertMiddleJdk() {
+        jdkList.add(size >> 1, values[0]);
+        return jdkList.remove(size);
+    }
+
+    @Benchmark
+    public Integer removeMiddleCustom() {
+        Integer removed = customList.remove(size >> 1);
+        customList.add(removed);
+        return removed;
+    }
+
+    @Benchmark
+    public Integer removeMiddleJdk() {
+        Integer removed = jdkList.remove(size >> 1);
+        jdkList.add(removed);
+        return removed;
+    }
+
+    @Benchmark
+    public void getCustom(Blackhole blackhole) {
+        for (int index : indices) {
+            blackhole.consume(customList.get(index));
+        }
+    }
+
+    @Benchmark
+    public void getJdk(Blackhole blackhole) {
+        for (int index : indices) {
+            blackhole.consume(jdkList.get(index));
+        }
+    }
+
+    @Benchmark
+    public void iterateCustom(Blackhole blackhole) {
+        for (Integer value : customList) {
+            blackhole.consume(value);
+        }
+    }
+
+    @Benchmark
+    public void iterateJdk(Blackhole blackhole) {
+        for (Integer value : jdkList) {
+            blackhole.consume(value);
+        }
+    }
+
+    @Benchmark
+    public void forEachCustom(Blackhole blackhole) {
+        customList.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void forEachJdk(Blackhole blackhole) {
+        jdkList.forEach(blackhole::consume);
+    }
+}
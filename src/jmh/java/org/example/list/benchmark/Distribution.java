@@ -0,0 +1,82 @@
+package org.example.list.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Распределения входных данных для бенчмарков
+ */
+public enum Distribution {
+
+    /**
+     * Случайные значения
+     */
+    RANDOM {
+        @Override
+        void fill(Integer[] data, Random random) {
+            for (int i = 0; i < data.length; i++) {
+                data[i] = random.nextInt();
+            }
+        }
+    },
+
+    /**
+     * Упорядоченные по возрастанию значения
+     */
+    SORTED {
+        @Override
+        void fill(Integer[] data, Random random) {
+            for (int i = 0; i < data.length; i++) {
+                data[i] = i;
+            }
+        }
+    },
+
+    /**
+     * Упорядоченные по убыванию значения
+     */
+    REVERSED {
+        @Override
+        void fill(Integer[] data, Random random) {
+            for (int i = 0; i < data.length; i++) {
+                data[i] = data.length - i;
+            }
+        }
+    },
+
+    /**
+     * Одинаковые значения
+     */
+    ALL_EQUAL {
+        @Override
+        void fill(Integer[] data, Random random) {
+            Arrays.fill(data, 42);
+        }
+    },
+
+    /**
+     * Случайные значения, половина из которых null
+     */
+    NULL_HEAVY {
+        @Override
+        void fill(Integer[] data, Random random) {
+            for (int i = 0; i < data.length; i++) {
+                data[i] = random.nextBoolean() ? null : random.nextInt();
+            }
+        }
+    };
+
+    abstract void fill(Integer[] data, Random random);
+
+    /**
+     * Создает массив данных заданного распределения. Для одинаковых размеров результат воспроизводим
+     *
+     * @param size - размер массива
+     * @return : массив данных
+     */
+    public Integer[] generate(int size) {
+        Integer[] data = new Integer[size];
+        fill(data, new Random(size));
+        return data;
+    }
+}
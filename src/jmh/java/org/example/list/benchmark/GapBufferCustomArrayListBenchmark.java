@@ -0,0 +1,108 @@
+package org.example.list.benchmark;
+
+import org.example.list.CustomArrayList;
+import org.example.list.GapBufferCustomArrayList;
+import org.example.list.api.ICustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение GapBufferCustomArrayList и CustomArrayList на разных шаблонах изменений.
+ * Каждый вызов выполняет EDITS пар вставка + удаление, поэтому размер списка сохраняется.
+ * <ul>
+ *     <li>RANDOM - вставка и удаление по случайным индексам</li>
+ *     <li>LOCALIZED - изменения рядом с курсором, который смещается на небольшое расстояние, как при
+ *     редактировании текста</li>
+ *     <li>APPEND - добавление в конец и удаление последнего элемента</li>
+ * </ul>
+ * Время указано на одну пару операций.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class GapBufferCustomArrayListBenchmark {
+
+    private static final int EDITS = 1024;
+
+    /**
+     * Наибольшее смещение курсора между соседними изменениями в шаблоне LOCALIZED
+     */
+    private static final int CURSOR_STEP = 16;
+
+    public enum Pattern {
+        RANDOM, LOCALIZED, APPEND
+    }
+
+    @Param({"100000", "5000000"})
+    private int size;
+
+    @Param({"RANDOM", "LOCALIZED", "APPEND"})
+    private Pattern pattern;
+
+    private int[] positions;
+
+    private CustomArrayList<Integer> customList;
+
+    private GapBufferCustomArrayList<Integer> gapList;
+
+    @Setup
+    public void setup() {
+        Integer[] values = Distribution.RANDOM.generate(size);
+        customList = new CustomArrayList<>(size + 1);
+        gapList = new GapBufferCustomArrayList<>(size + 1);
+        for (Integer value : values) {
+            customList.add(value);
+            gapList.add(value);
+        }
+        Random random = new Random(size);
+        positions = new int[EDITS];
+        int cursor = size >> 1;
+        for (int i = 0; i < EDITS; i++) {
+            switch (pattern) {
+                case RANDOM -> positions[i] = random.nextInt(size);
+                case LOCALIZED -> {
+                    cursor = Math.floorMod(cursor + random.nextInt(2 * CURSOR_STEP + 1) - CURSOR_STEP, size);
+                    positions[i] = cursor;
+                }
+                case APPEND -> positions[i] = size;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EDITS)
+    public int editCustom() {
+        return edit(customList);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EDITS)
+    public int editGapBuffer() {
+        return edit(gapList);
+    }
+
+    private int edit(ICustomArrayList<Integer> list) {
+        int sum = 0;
+        for (int position : positions) {
+            list.add(position, position);
+            sum += list.remove(position);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.list.benchmark;
+
+import org.example.list.IntroSorter;
+import org.example.list.ParallelSorter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замер масштабируемости ParallelSorter в зависимости от количества потоков пула.
+ * Бенчмарк sequential сортирует те же данные последовательным IntroSorter и служит базовой линией.
+ * Значения parallelism больше количества доступных процессоров имеет смысл исключить при запуске,
+ * например: -p parallelism=1,2,4,8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParallelSorterScalingBenchmark {
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    private int parallelism;
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    private Integer[] source;
+
+    private Integer[] work;
+
+    private ForkJoinPool pool;
+
+    private ParallelSorter<Integer> parallelSorter;
+
+    private IntroSorter<Integer> introSorter;
+
+    @Setup
+    public void setup() {
+        source = Distribution.RANDOM.generate(size);
+        work = new Integer[size];
+        pool = new ForkJoinPool(parallelism);
+        parallelSorter = new ParallelSorter<>(pool, ParallelSorter.DEFAULT_SEQUENTIAL_THRESHOLD);
+        introSorter = new IntroSorter<>();
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Object[] parallel() {
+        System.arraycopy(source, 0, work, 0, size);
+        parallelSorter.sort(work, 0, size, Integer::compareTo);
+        return work;
+    }
+
+    @Benchmark
+    public Object[] sequential() {
+        System.arraycopy(source, 0, work, 0, size);
+        introSorter.sort(work, 0, size, Integer::compareTo);
+        return work;
+    }
+}
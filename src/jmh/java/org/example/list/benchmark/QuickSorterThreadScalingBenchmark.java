@@ -0,0 +1,103 @@
+package org.example.list.benchmark;
+
+import org.example.list.QuickSorter;
+import org.example.list.StandardPivotStrategy;
+import org.example.list.api.PivotStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Масштабируемость QuickSorter при сортировке независимых списков в нескольких потоках.
+ * Каждый из threads потоков сортирует свою копию данных одним общим экземпляром QuickSorter, поэтому
+ * при идеальной масштабируемости время вызова не растет с количеством потоков, а пропускная способность
+ * равна threads / время. Стратегия SHARED_RANDOM воспроизводит прежний выбор опорного элемента общим
+ * java.util.Random, на котором потоки конкурируют за одно AtomicLong состояние генератора.
+ * Значения threads больше количества доступных процессоров имеет смысл исключить при запуске,
+ * например: -p threads=1,2,4,8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class QuickSorterThreadScalingBenchmark {
+
+    private static final Comparator<Integer> COMPARATOR = Comparator.naturalOrder();
+
+    /**
+     * Выбор случайного опорного элемента общим генератором, как до введения PivotStrategy
+     */
+    private static final PivotStrategy SHARED_RANDOM = new PivotStrategy() {
+
+        private final Random random = new Random();
+
+        @Override
+        public <E> int pivotIndex(Object[] data, int low, int high, Comparator<? super E> comparator) {
+            return low + random.nextInt(high - low + 1);
+        }
+    };
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    private int threads;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    @Param({"RANDOM", "SHARED_RANDOM"})
+    private String pivot;
+
+    private Integer[] source;
+
+    private Integer[][] work;
+
+    private QuickSorter<Integer> sorter;
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        source = Distribution.RANDOM.generate(size);
+        work = new Integer[threads][size];
+        sorter = new QuickSorter<>(pivot.equals("SHARED_RANDOM") ? SHARED_RANDOM : StandardPivotStrategy.valueOf(pivot));
+        executor = Executors.newFixedThreadPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public Object[][] sortIndependentLists() throws Exception {
+        Future<?>[] futures = new Future<?>[threads];
+        for (int t = 0; t < threads; t++) {
+            Integer[] list = work[t];
+            futures[t] = executor.submit(() -> {
+                System.arraycopy(source, 0, list, 0, size);
+                sorter.sort(list, 0, size, COMPARATOR);
+            });
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return work;
+    }
+}
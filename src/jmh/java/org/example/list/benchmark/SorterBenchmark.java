@@ -0,0 +1,80 @@
+package org.example.list.benchmark;
+
+import org.example.list.IntroSorter;
+import org.example.list.QuickSorter;
+import org.example.list.TimSorter;
+import org.example.list.api.Sorter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки реализаций Sorter на разных размерах и распределениях данных.
+ * Алгоритм JDK соответствует Arrays.sort (сортировка java.util.ArrayList) и служит базовой линией.
+ * Каждый вызов копирует исходные данные в рабочий массив, стоимость копирования показывает бенчмарк copyOnly.
+ * QuickSorter на распределении ALL_EQUAL имеет квадратичную сложность и глубину рекурсии, поэтому
+ * на больших размерах этот вариант может завершиться StackOverflowError.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SorterBenchmark {
+
+    private static final Comparator<Integer> COMPARATOR = Comparator.nullsLast(Comparator.naturalOrder());
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param
+    private Distribution distribution;
+
+    @Param({"QUICK", "INTRO", "TIM", "JDK"})
+    private String algorithm;
+
+    private Integer[] source;
+
+    private Integer[] work;
+
+    private Sorter<Integer> sorter;
+
+    @Setup
+    public void setup() {
+        source = distribution.generate(size);
+        work = new Integer[size];
+        switch (algorithm) {
+            case "QUICK" -> sorter = new QuickSorter<>();
+            case "INTRO" -> sorter = new IntroSorter<>();
+            case "TIM" -> sorter = new TimSorter<>();
+            case "JDK" -> sorter = (data, from, to, comparator) -> Arrays.sort(data, from, to, (Comparator) comparator);
+            default -> throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+    }
+
+    @Benchmark
+    public Object[] sort() {
+        System.arraycopy(source, 0, work, 0, size);
+        sorter.sort(work, 0, size, COMPARATOR);
+        return work;
+    }
+
+    @Benchmark
+    public Object[] copyOnly() {
+        System.arraycopy(source, 0, work, 0, size);
+        return work;
+    }
+}
@@ -0,0 +1,299 @@
+package org.example.list;
+
+import org.example.list.api.ElementCodec;
+import org.example.list.api.ICustomArrayList;
+import org.example.list.api.Sorter;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Основа реализаций ICustomArrayList интерфейса, хранящих элементы в ByteBuffer в двоичном виде
+ * фиксированного размера. Преобразование элементов выполняет ElementCodec. Способ выделения и расширения
+ * буфера определяется наследником.
+ * По умолчанию сортировка выполняется на месте в буфере (BufferSort): декодируются только сравниваемые
+ * элементы, копия списка в куче не создается. Если задан Sorter, элементы декодируются во временный массив,
+ * сортируются и записываются обратно, поэтому на время такой сортировки все элементы присутствуют в куче.
+ * Реализация не синхронизирована. Итератор выбрасывает ConcurrentModificationException, если список
+ * был изменен в процессе итерирования.
+ *
+ * @param <E> - тип элементов списка
+ * @author : Kiryl Staravoitau
+ */
+abstract class AbstractBufferCustomArrayList<E> implements ICustomArrayList<E> {
+
+    /**
+     * Размер временного массива, через который перемещаются байты внутри буфера
+     */
+    private static final int MOVE_CHUNK = 8 * 1024;
+
+    private final ElementCodec<E> codec;
+
+    /**
+     * Размер одного элемента в байтах
+     */
+    final int elementSize;
+
+    /**
+     * Реализация сортировки. null, если сортировка выполняется на месте в буфере
+     */
+    private final Sorter<E> sorter;
+
+    /**
+     * Элементы списка
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * Размер списка
+     */
+    private int size;
+
+    /**
+     * Счетчик модификаций. Необходим для отслеживания изменений списка при итерации
+     */
+    private int modCount;
+
+    /**
+     * Создает список над переданным буфером
+     *
+     * @param codec  - преобразование элементов в двоичный вид
+     * @param sorter - реализация сортировки или null для сортировки на месте в буфере
+     * @param buffer - буфер элементов, первый элемент расположен в позиции 0
+     * @param size   - количество элементов, уже записанных в буфер
+     */
+    AbstractBufferCustomArrayList(ElementCodec<E> codec, Sorter<E> sorter, ByteBuffer buffer, int size) {
+        this.codec = Objects.requireNonNull(codec);
+        this.elementSize = codec.size();
+        this.sorter = sorter;
+        this.buffer = buffer;
+        this.size = size;
+    }
+
+    /**
+     * Добавляет элемент в конец списка
+     *
+     * @param e - вставляемый элемент
+     */
+    @Override
+    public void add(E e) {
+        modCount++;
+        ensureCapacity(size + 1);
+        codec.encode(e, buffer, size * elementSize);
+        size++;
+    }
+
+    /**
+     * Добавляет элемент по индексу. Элементы справа от индекса смещаются на одну позицию вправо
+     *
+     * @param index - индекс по которому недходимо произвести вставку
+     * @param e     - вставляемый элемент
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public void add(int index, E e) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+        modCount++;
+        ensureCapacity(size + 1);
+        moveBytes(index * elementSize, (index + 1) * elementSize, (size - index) * elementSize);
+        codec.encode(e, buffer, index * elementSize);
+        size++;
+    }
+
+    /**
+     * Получает элемент по индексу. Каждый вызов декодирует новый объект элемента
+     *
+     * @param index - индексы получаемого элемента
+     * @return : элемент по искомому индексу
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return codec.decode(buffer, index * elementSize);
+    }
+
+    /**
+     * Удаляет элемент спика по индексу. Элменты справа от удаляемого смещаются на одну позицию влево
+     *
+     * @param index - индекс удаляемго элемента
+     * @return - удаленный элемент
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        modCount++;
+        E e = get(index);
+        moveBytes((index + 1) * elementSize, index * elementSize, (size - index - 1) * elementSize);
+        size--;
+        return e;
+    }
+
+    /**
+     * Очищает список. Содержимое буфера не затирается
+     */
+    @Override
+    public void clear() {
+        modCount++;
+        size = 0;
+    }
+
+    /**
+     * Сортирует список в соответсвии с заданным компоратором. Если Sorter не задан, сортировка выполняется
+     * на месте в буфере и не создает копию списка в куче. Если Sorter задан, все элементы декодируются
+     * во временный массив в куче, сортируются заданным Sorter и записываются обратно
+     *
+     * @param c - реализация Comparator для элементов списка
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        modCount++;
+        if (sorter == null) {
+            BufferSort.sort(buffer, codec, 0, size, c);
+            return;
+        }
+        Object[] elements = toArray();
+        sorter.sort(elements, 0, size, c);
+        for (int i = 0; i < size; i++) {
+            codec.encode((E) elements[i], buffer, i * elementSize);
+        }
+    }
+
+    /**
+     * Заменяет елемент списка по индексу
+     *
+     * @param index - индекс по которому проводится замена
+     * @param e     - элемент на который нужно заменить
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public void replace(int index, E e) {
+        Objects.checkIndex(index, size);
+        modCount++;
+        codec.encode(e, buffer, index * elementSize);
+    }
+
+    /**
+     * Возвращает размер списка
+     *
+     * @return : размер списка
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает текущую ёмкость списка
+     *
+     * @return : количество элементов, помещающихся в буфер
+     */
+    public int capacity() {
+        return buffer.capacity() / elementSize;
+    }
+
+    /**
+     * Возвращает декодированную копию элементов списка
+     *
+     * @return : массив элементов списка
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = codec.decode(buffer, i * elementSize);
+        }
+        return elements;
+    }
+
+    /**
+     * Предоставляет итератор для списка
+     *
+     * @return : итератор для списка
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(get(i));
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Возвращает буфер ёмкостью не менее minCapacity элементов, содержащий первые size элементов текущего буфера
+     *
+     * @param current     - текущий буфер
+     * @param size        - количество записанных элементов
+     * @param minCapacity - минимальная необходимая ёмкость в элементах
+     * @return : новый буфер
+     */
+    abstract ByteBuffer grow(ByteBuffer current, int size, int minCapacity);
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity()) {
+            buffer = grow(buffer, size, minCapacity);
+        }
+    }
+
+    /**
+     * Перемещает length байт буфера с позиции from на позицию to. Области могут перекрываться
+     */
+    private void moveBytes(int from, int to, int length) {
+        if (length == 0) {
+            return;
+        }
+        byte[] chunk = new byte[Math.min(length, MOVE_CHUNK)];
+        if (to < from) {
+            for (int done = 0; done < length; done += chunk.length) {
+                int n = Math.min(chunk.length, length - done);
+                buffer.get(from + done, chunk, 0, n);
+                buffer.put(to + done, chunk, 0, n);
+            }
+        } else {
+            for (int remaining = length; remaining > 0; remaining -= chunk.length) {
+                int n = Math.min(chunk.length, remaining);
+                buffer.get(from + remaining - n, chunk, 0, n);
+                buffer.put(to + remaining - n, chunk, 0, n);
+            }
+        }
+    }
+
+    private class Itr implements Iterator<E> {
+        int cursor;       // index of next element to return
+        int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            return get(cursor++);
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package org.example.list;
+
+import org.example.list.api.ICustomArrayList;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * Неблокирующая реализация ICustomArrayList интерфейса, поддерживающая только добавление в конец списка.
+ * Предназначена для одновременного добавления элементов из множества потоков.
+ * Поток, добавляющий элемент, резервирует ячейку атомарным увеличением размера (getAndAdd), после чего
+ * записывает элемент в зарезервированную ячейку с семантикой release. Чтение выполняется с семантикой
+ * acquire, поэтому читающий поток видит полностью построенный элемент.
+ * Элементы хранятся в сегментах, размер каждого следующего из которых вдвое больше предыдущего.
+ * При расширении выделяется только новый сегмент, существующие элементы не копируются, поэтому add никогда
+ * не блокируется и не ждет других потоков.
+ * Размер списка учитывает зарезервированные, но еще не записанные ячейки. Чтение такой ячейки ожидает
+ * (активным ожиданием) завершения записи, которое занимает время одной записи в массив.
+ * Если запись не удалась (например, выделение сегмента завершилось OutOfMemoryError), зарезервированные
+ * ячейки отмечаются неудачными, и их чтение выбрасывает IllegalStateException вместо бесконечного ожидания.
+ * Отмечаются только ячейки неудачной операции: сегмент, который не удалось выделить, остается пустым,
+ * и следующее добавление в него повторяет выделение.
+ * Только addAll(Collection) резервирует ячейки одной операцией и размещает элементы подряд. addAll(E[])
+ * и addAll(ICustomArrayList) используют реализации интерфейса по умолчанию, добавляющие элементы по одному,
+ * поэтому элементы других потоков могут оказаться между ними.
+ * Операции, изменяющие существующие элементы, не поддерживаются и выбрасывают UnsupportedOperationException.
+ *
+ * @param <E> - тип элементов списка
+ * @author : Kiryl Staravoitau
+ */
+public class AppendOnlyCustomArrayList<E> implements ICustomArrayList<E> {
+
+    /**
+     * Двоичный логарифм размера первого сегмента
+     */
+    private static final int FIRST_SEGMENT_SHIFT = 4;
+
+    /**
+     * Количество сегментов, достаточное для хранения Integer.MAX_VALUE элементов
+     */
+    private static final int SEGMENTS = Integer.SIZE - FIRST_SEGMENT_SHIFT;
+
+    /**
+     * Максимальный размер списка
+     */
+    private static final int MAX_SIZE = Integer.MAX_VALUE - (1 << FIRST_SEGMENT_SHIFT);
+
+    /**
+     * Значение, которым в ячейке заменяется добавленный null. Пустая ячейка означает, что запись не завершена
+     */
+    private static final Object NULL = new Object();
+
+    private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /**
+     * Количество зарезервированных ячеек
+     */
+    private final AtomicInteger reserved = new AtomicInteger();
+
+    private final AtomicReferenceArray<Object[]> segments = new AtomicReferenceArray<>(SEGMENTS);
+
+    /**
+     * Диапазоны [from, to) ячеек, запись в которые не удалась. Проверяются только ожидающим чтением
+     */
+    private final Queue<int[]> failed = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Выделение массива сегмента по его длине
+     */
+    private final IntFunction<Object[]> allocator;
+
+    /**
+     * Создает пустой список
+     */
+    public AppendOnlyCustomArrayList() {
+        this(Object[]::new);
+    }
+
+    /**
+     * Создает пустой список с заданным выделением сегментов. Позволяет тестам смоделировать ошибку выделения
+     *
+     * @param allocator - выделение массива сегмента по его длине
+     */
+    AppendOnlyCustomArrayList(IntFunction<Object[]> allocator) {
+        this.allocator = allocator;
+    }
+
+    /**
+     * Добавляет элемент в конец списка. Метод не блокируется
+     *
+     * @param e - вставляемый элемент
+     * @throws IllegalStateException - если список достиг максимального размера
+     */
+    @Override
+    public void add(E e) {
+        int index = reserve(1);
+        boolean published = false;
+        try {
+            publish(index, e);
+            published = true;
+        } finally {
+            if (!published) {
+                fail(index, 1);
+            }
+        }
+    }
+
+    /**
+     * Добавляет элементы коллекции в конец списка. Ячейки для всех элементов резервируются одной атомарной
+     * операцией, поэтому элементы коллекции располагаются в списке подряд
+     *
+     * @param c - коллекция добавляемых элементов
+     * @throws IllegalStateException - если список достиг максимального размера
+     */
+    @Override
+    public void addAll(Collection<? extends E> c) {
+        Object[] elements = c.toArray();
+        if (elements.length == 0) {
+            return;
+        }
+        int index = reserve(elements.length);
+        int end = index + elements.length;
+        try {
+            for (Object e : elements) {
+                publish(index, e);
+                index++;
+            }
+        } finally {
+            if (index < end) {
+                fail(index, end - index);
+            }
+        }
+    }
+
+    /**
+     * Получает элемент по индексу. Если ячейка зарезервирована, но запись еще не завершена, метод ожидает ее
+     *
+     * @param index - индексы получаемого элемента
+     * @return : элемент по искомому индексу
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     * @throws IllegalStateException     - если добавление элемента по этому индексу завершилось ошибкой
+     */
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, reserved.get());
+        int segment = segmentIndex(index);
+        int offset = offset(index, segment);
+        Object[] elements;
+        while ((elements = segments.get(segment)) == null) {
+            checkFailed(index);
+            Thread.onSpinWait();
+        }
+        Object e;
+        while ((e = ELEMENTS.getAcquire(elements, offset)) == null) {
+            checkFailed(index);
+            Thread.onSpinWait();
+        }
+        return e == NULL ? null : (E) e;
+    }
+
+    /**
+     * Возвращает размер списка, включая зарезервированные ячейки
+     *
+     * @return : размер списка
+     */
+    @Override
+    public int size() {
+        return reserved.get();
+    }
+
+    /**
+     * Предоставляет итератор для списка. Итератор обходит элементы, добавленные до окончания обхода,
+     * и не выбрасывает ConcurrentModificationException
+     *
+     * @return : итератор для списка
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < reserved.get();
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(cursor++);
+            }
+        };
+    }
+
+    @Override
+    public void add(int index, E e) {
+        throw new UnsupportedOperationException("Append-only list");
+    }
+
+    @Override
+    public E remove(int index) {
+        throw new UnsupportedOperationException("Append-only list");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("Append-only list");
+    }
+
+    @Override
+    public void sort(Comparator<? super E> c) {
+        throw new UnsupportedOperationException("Append-only list");
+    }
+
+    @Override
+    public void replace(int index, E e) {
+        throw new UnsupportedOperationException("Append-only list");
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        throw new UnsupportedOperationException("Append-only list");
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException("Append-only list");
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        int size = size();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(get(i));
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    private int reserve(int count) {
+        int index = reserved.getAndAdd(count);
+        if (index < 0 || index > MAX_SIZE - count) {
+            reserved.getAndAdd(-count);
+            throw new IllegalStateException("List is full");
+        }
+        return index;
+    }
+
+    private void publish(int index, Object e) {
+        int segment = segmentIndex(index);
+        Object[] elements = segments.get(segment);
+        if (elements == null) {
+            elements = allocateSegment(segment);
+        }
+        ELEMENTS.setRelease(elements, offset(index, segment), e == null ? NULL : e);
+    }
+
+    /**
+     * Отмечает count ячеек начиная с index неудачными, чтобы чтение не ожидало их бесконечно.
+     * Сегменты не изменяются, поэтому другие ячейки этих сегментов остаются доступными для записи
+     */
+    private void fail(int index, int count) {
+        failed.add(new int[]{index, index + count});
+    }
+
+    /**
+     * Выбрасывает исключение, если запись в ячейку index не удалась
+     */
+    private void checkFailed(int index) {
+        for (int[] range : failed) {
+            if (index >= range[0] && index < range[1]) {
+                throw new IllegalStateException("Add failed for element at index " + index);
+            }
+        }
+    }
+
+    /**
+     * Выделяет сегмент. Если другой поток успел выделить его раньше, используется его сегмент
+     */
+    private Object[] allocateSegment(int segment) {
+        Object[] elements = allocator.apply(1 << (segment + FIRST_SEGMENT_SHIFT));
+        if (segments.compareAndSet(segment, null, elements)) {
+            return elements;
+        }
+        return segments.get(segment);
+    }
+
+    /**
+     * Сегмент k содержит индексы [2^(k + s) - 2^s, 2^(k + s + 1) - 2^s), где s - FIRST_SEGMENT_SHIFT
+     */
+    private static int segmentIndex(int index) {
+        int position = index + (1 << FIRST_SEGMENT_SHIFT);
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(position) - FIRST_SEGMENT_SHIFT;
+    }
+
+    private static int offset(int index, int segment) {
+        return index + (1 << FIRST_SEGMENT_SHIFT) - (1 << (segment + FIRST_SEGMENT_SHIFT));
+    }
+}
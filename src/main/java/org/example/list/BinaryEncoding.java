@@ -0,0 +1,18 @@
+package org.example.list;
+
+/**
+ * Способ записи элементов при двоичной сериализации списка
+ */
+public enum BinaryEncoding {
+
+    /**
+     * Каждый элемент записывается кодеком в двоичном виде фиксированного размера
+     */
+    FIXED,
+
+    /**
+     * Записывается разность с предыдущим элементом в zigzag-varint виде. Подходит только для целочисленных
+     * кодеков и дает наибольшее сжатие на отсортированных данных с небольшим шагом
+     */
+    DELTA_VARINT
+}
@@ -0,0 +1,185 @@
+package org.example.list;
+
+import org.example.list.api.ElementCodec;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+
+/**
+ * Интроспективная сортировка элементов, хранящихся в ByteBuffer в двоичном виде фиксированного размера.
+ * Сортировка выполняется на месте: декодируются только сравниваемые элементы, перестановки копируют байты
+ * внутри буфера. Кроме временных объектов сравниваемых элементов выделяются только два буфера размером
+ * с один элемент, поэтому сортировка не создает копию списка в куче.
+ * Сортировка неустойчива: порядок равных элементов не сохраняется.
+ *
+ * @param <E> - тип элементов
+ */
+final class BufferSort<E> {
+
+    /**
+     * Размер диапазона, начиная с которого используется сортировка вставками
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private final ByteBuffer buffer;
+
+    private final int elementSize;
+
+    private final ElementCodec<E> codec;
+
+    private final Comparator<? super E> comparator;
+
+    private final byte[] first;
+
+    private final byte[] second;
+
+    private BufferSort(ByteBuffer buffer, ElementCodec<E> codec, Comparator<? super E> comparator) {
+        this.buffer = buffer;
+        this.elementSize = codec.size();
+        this.codec = codec;
+        this.comparator = comparator;
+        this.first = new byte[elementSize];
+        this.second = new byte[elementSize];
+    }
+
+    /**
+     * Сортирует элементы с индексами [from, to) буфера
+     *
+     * @param buffer     - буфер элементов, элемент i расположен с позиции i * codec.size()
+     * @param codec      - преобразование элементов из двоичного вида
+     * @param from       - индекс первого элемента диапазона (включительно)
+     * @param to         - индекс последнего элемента диапазона (исключительно)
+     * @param comparator - реализация Comparator для элементов
+     * @param <E>        - тип элементов
+     */
+    static <E> void sort(ByteBuffer buffer, ElementCodec<E> codec, int from, int to,
+                         Comparator<? super E> comparator) {
+        if (to - from < 2) {
+            return;
+        }
+        int depth = 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(to - from));
+        new BufferSort<>(buffer, codec, comparator).introSort(from, to, depth);
+    }
+
+    private void introSort(int low, int high, int depth) {
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(low, high);
+                return;
+            }
+            int p = partition(low, high);
+            if (p - low < high - p - 1) {
+                introSort(low, p, depth);
+                low = p + 1;
+            } else {
+                introSort(p + 1, high, depth);
+                high = p;
+            }
+        }
+        insertionSort(low, high);
+    }
+
+    /**
+     * Разбивает диапазон [low, high) вокруг медианы трех элементов. Опорный элемент декодируется один раз
+     *
+     * @return : итоговый индекс опорного элемента
+     */
+    private int partition(int low, int high) {
+        int last = high - 1;
+        swap(medianOfThree(low, (low + last) >>> 1, last), last);
+        E pivot = get(last);
+        int store = low;
+        for (int i = low; i < last; i++) {
+            if (comparator.compare(get(i), pivot) < 0) {
+                swap(i, store++);
+            }
+        }
+        swap(store, last);
+        return store;
+    }
+
+    private int medianOfThree(int a, int b, int c) {
+        E x = get(a);
+        E y = get(b);
+        E z = get(c);
+        if (comparator.compare(x, y) < 0) {
+            if (comparator.compare(y, z) < 0) {
+                return b;
+            }
+            return comparator.compare(x, z) < 0 ? c : a;
+        }
+        if (comparator.compare(x, z) < 0) {
+            return a;
+        }
+        return comparator.compare(y, z) < 0 ? c : b;
+    }
+
+    private void insertionSort(int low, int high) {
+        for (int i = low + 1; i < high; i++) {
+            E current = get(i);
+            int j = i - 1;
+            if (comparator.compare(get(j), current) <= 0) {
+                continue;
+            }
+            buffer.get(i * elementSize, first);
+            do {
+                move(j, j + 1);
+                j--;
+            } while (j >= low && comparator.compare(get(j), current) > 0);
+            buffer.put((j + 1) * elementSize, first);
+        }
+    }
+
+    private void heapSort(int low, int high) {
+        int n = high - low;
+        for (int i = (n >>> 1) - 1; i >= 0; i--) {
+            siftDown(low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(low, low + end);
+            siftDown(low, 0, end);
+        }
+    }
+
+    private void siftDown(int low, int i, int n) {
+        E current = get(low + i);
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) {
+                return;
+            }
+            E larger = get(low + child);
+            if (child + 1 < n) {
+                E right = get(low + child + 1);
+                if (comparator.compare(larger, right) < 0) {
+                    child++;
+                    larger = right;
+                }
+            }
+            if (comparator.compare(current, larger) >= 0) {
+                return;
+            }
+            swap(low + i, low + child);
+            i = child;
+        }
+    }
+
+    private E get(int index) {
+        return codec.decode(buffer, index * elementSize);
+    }
+
+    private void move(int from, int to) {
+        buffer.get(from * elementSize, second);
+        buffer.put(to * elementSize, second);
+    }
+
+    private void swap(int i, int j) {
+        if (i == j) {
+            return;
+        }
+        buffer.get(i * elementSize, first);
+        buffer.get(j * elementSize, second);
+        buffer.put(i * elementSize, second);
+        buffer.put(j * elementSize, first);
+    }
+}
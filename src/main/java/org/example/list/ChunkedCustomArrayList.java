@@ -0,0 +1,530 @@
+package org.example.list;
+
+import org.example.list.api.ICustomArrayList;
+import org.example.list.api.Sorter;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Реализация ICustomArrayList интерфейса на основе блоков фиксированного размера (tiered vector).
+ * Элементы хранятся в блоках длиной blockSize (степень двойки), каждый блок - кольцевой буфер.
+ * Все блоки, кроме последнего, заполнены полностью, поэтому доступ по индексу выполняется за O(1).
+ * Добавление в конец выделяет новый блок при заполнении последнего и не копирует существующие элементы.
+ * Вставка и удаление по индексу сдвигают элементы внутри одного блока, а в остальных блоках перекладывают
+ * по одному элементу между соседями за O(1), поэтому стоят O(blockSize + size / blockSize).
+ * При blockSize порядка корня из ожидаемого размера списка это O(sqrt n).
+ * Ни одно выделение памяти не превышает блок, кроме справочника блоков, который в blockSize раз меньше списка.
+ * Сортировка: каждый блок сортируется заданным Sorter, после чего блоки сливаются. Результат записывается
+ * в освободившиеся исходные блоки, а пока их нет - в новые, поэтому в худшем случае (элементы блоков
+ * перемежаются и блоки освобождаются только в конце слияния) на время сортировки требуется до двух размеров
+ * списка. Сортировка устойчива, только если устойчив заданный Sorter (например, TimSorter).
+ * Значения null при слиянии считаются наибольшими, как и при сортировке Sorter.
+ * Реализация не синхронизирована. Итератор выбрасывает ConcurrentModificationException, если список
+ * был изменен в процессе итерирования.
+ *
+ * @param <E> - тип элементов списка
+ * @author : Kiryl Staravoitau
+ */
+public class ChunkedCustomArrayList<E> implements ICustomArrayList<E> {
+
+    /**
+     * Размер блока по умолчанию
+     */
+    private static final int DEFAULT_BLOCK_SIZE = 1 << 12;
+
+    /**
+     * Начальная длина справочника блоков
+     */
+    private static final int INITIAL_DIRECTORY_LENGTH = 8;
+
+    /**
+     * Реализация сортировки
+     */
+    private final Sorter<E> sorter;
+
+    private final int blockShift;
+
+    private final int mask;
+
+    /**
+     * Блоки элементов. Используются первые blockCount блоков
+     */
+    private Object[][] blocks;
+
+    /**
+     * Позиция первого элемента в каждом блоке
+     */
+    private int[] heads;
+
+    private int blockCount;
+
+    /**
+     * Размер списка
+     */
+    private int size;
+
+    /**
+     * Счетчик модификаций. Необходим для отслеживания изменений списка при итерации
+     */
+    private int modCount;
+
+    /**
+     * Создает пустой список с желаемым размером блока и реализацией сортировки
+     *
+     * @param blockSize - размер блока, степень двойки
+     * @param sorter    - реализация сортировки
+     * @throws IllegalArgumentException - если размер блока не является положительной степенью двойки
+     */
+    public ChunkedCustomArrayList(int blockSize, Sorter<E> sorter) {
+        if (blockSize < 2 || Integer.bitCount(blockSize) != 1) {
+            throw new IllegalArgumentException("Block size must be a power of two: " + blockSize);
+        }
+        this.sorter = sorter;
+        this.blockShift = Integer.numberOfTrailingZeros(blockSize);
+        this.mask = blockSize - 1;
+        this.blocks = new Object[INITIAL_DIRECTORY_LENGTH][];
+        this.heads = new int[INITIAL_DIRECTORY_LENGTH];
+    }
+
+    /**
+     * Создает пустой список с желаемым размером блока
+     *
+     * @param blockSize - размер блока, степень двойки
+     * @throws IllegalArgumentException - если размер блока не является положительной степенью двойки
+     */
+    public ChunkedCustomArrayList(int blockSize) {
+        this(blockSize, new IntroSorter<>());
+    }
+
+    /**
+     * Создает пустой список с размером блока 4096 и желаемой реализацией сортировки
+     *
+     * @param sorter - реализация сортировки
+     */
+    public ChunkedCustomArrayList(Sorter<E> sorter) {
+        this(DEFAULT_BLOCK_SIZE, sorter);
+    }
+
+    /**
+     * Создает пустой список с размером блока 4096
+     */
+    public ChunkedCustomArrayList() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Добавляет элемент в конец списка
+     *
+     * @param e - вставляемый элемент
+     */
+    @Override
+    public void add(E e) {
+        modCount++;
+        append(e);
+    }
+
+    /**
+     * Добавляет элемент по индексу. Элементы справа от индекса смещаются на одну позицию вправо
+     *
+     * @param index - индекс по которому недходимо произвести вставку
+     * @param e     - вставляемый элемент
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public void add(int index, E e) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+        modCount++;
+        if (index == size) {
+            append(e);
+            return;
+        }
+        int block = index >>> blockShift;
+        int last = blockCount - 1;
+        Object carry = null;
+        int length = blockLength(block);
+        boolean overflow = length == blockSize();
+        if (overflow) {
+            carry = popBack(block);
+            length--;
+        }
+        insertWithin(block, index & mask, length, e);
+        for (int b = block + 1; overflow && b <= last; b++) {
+            if (blockLength(b) < blockSize()) {
+                pushFront(b, carry);
+                overflow = false;
+            } else {
+                Object out = popBack(b);
+                pushFront(b, carry);
+                carry = out;
+            }
+        }
+        if (overflow) {
+            newBlock();
+            blocks[blockCount - 1][0] = carry;
+        }
+        size++;
+    }
+
+    /**
+     * Получает элемент по индексу
+     *
+     * @param index - индексы получаемого элемента
+     * @return : элемент по искомому индексу
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        int block = index >>> blockShift;
+        return (E) blocks[block][(heads[block] + index) & mask];
+    }
+
+    /**
+     * Удаляет элемент спика по индексу. Элменты справа от удаляемого смещаются на одну позицию влево
+     *
+     * @param index - индекс удаляемго элемента
+     * @return - удаленный элемент
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        modCount++;
+        int block = index >>> blockShift;
+        E e = removeWithin(block, index & mask);
+        for (int b = block + 1; b < blockCount; b++) {
+            Object front = popFront(b);
+            Object[] previous = blocks[b - 1];
+            previous[(heads[b - 1] + mask) & mask] = front;
+        }
+        size--;
+        if (blockCount > 0 && size <= (blockCount - 1) << blockShift) {
+            blocks[--blockCount] = null;
+        }
+        return e;
+    }
+
+    /**
+     * Очищает список
+     */
+    @Override
+    public void clear() {
+        modCount++;
+        Arrays.fill(blocks, 0, blockCount, null);
+        blockCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Сортирует список в соответсвии с заданным компоратором. Каждый блок сортируется заданным Sorter,
+     * затем блоки сливаются. Исходный блок используется повторно для результата, как только из него взят
+     * последний элемент. Если элементы блоков перемежаются, блоки освобождаются только в конце слияния,
+     * и пиковый объем памяти достигает двух размеров списка
+     *
+     * @param c - реализация Comparator для элементов списка
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        modCount++;
+        for (int b = 0; b < blockCount; b++) {
+            linearize(b);
+            sorter.sort(blocks[b], 0, blockLength(b), c);
+        }
+        if (blockCount > 1) {
+            merge(c);
+        }
+    }
+
+    /**
+     * Заменяет елемент списка по индексу
+     *
+     * @param index - индекс по которому проводится замена
+     * @param e     - элемент на который нужно заменить
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public void replace(int index, E e) {
+        Objects.checkIndex(index, size);
+        modCount++;
+        int block = index >>> blockShift;
+        blocks[block][(heads[block] + index) & mask] = e;
+    }
+
+    /**
+     * Возвращает размер списка
+     *
+     * @return : размер списка
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает размер блока
+     *
+     * @return : количество элементов в одном блоке
+     */
+    public int blockSize() {
+        return mask + 1;
+    }
+
+    /**
+     * Возвращает копию элементов списка
+     *
+     * @return : массив элементов списка
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] elements = new Object[size];
+        for (int b = 0; b < blockCount; b++) {
+            Object[] block = blocks[b];
+            int head = heads[b];
+            int length = blockLength(b);
+            int first = Math.min(length, block.length - head);
+            System.arraycopy(block, head, elements, b << blockShift, first);
+            System.arraycopy(block, 0, elements, (b << blockShift) + first, length - first);
+        }
+        return elements;
+    }
+
+    /**
+     * Предоставляет итератор для списка
+     *
+     * @return : итератор для списка
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private int blockLength(int block) {
+        return block < blockCount - 1 ? blockSize() : size - (block << blockShift);
+    }
+
+    private void append(E e) {
+        if (size == blockCount << blockShift) {
+            if (size > Integer.MAX_VALUE - blockSize()) {
+                throw new OutOfMemoryError("Required size exceeds implementation limit");
+            }
+            newBlock();
+        }
+        int last = blockCount - 1;
+        blocks[last][(heads[last] + size) & mask] = e;
+        size++;
+    }
+
+    private void newBlock() {
+        if (blockCount == blocks.length) {
+            int length = blocks.length + (blocks.length >> 1);
+            blocks = Arrays.copyOf(blocks, length);
+            heads = Arrays.copyOf(heads, length);
+        }
+        blocks[blockCount] = new Object[blockSize()];
+        heads[blockCount] = 0;
+        blockCount++;
+    }
+
+    /**
+     * Вставляет элемент в неполный блок из length элементов, сдвигая меньшую из частей блока
+     */
+    private void insertWithin(int block, int offset, int length, Object e) {
+        Object[] elements = blocks[block];
+        int head = heads[block];
+        if (offset < length >> 1) {
+            head = (head - 1) & mask;
+            for (int i = 0; i < offset; i++) {
+                elements[(head + i) & mask] = elements[(head + i + 1) & mask];
+            }
+            heads[block] = head;
+        } else {
+            for (int i = length; i > offset; i--) {
+                elements[(head + i) & mask] = elements[(head + i - 1) & mask];
+            }
+        }
+        elements[(head + offset) & mask] = e;
+    }
+
+    /**
+     * Удаляет элемент из блока, сдвигая меньшую из частей блока. Освободившаяся позиция остается в конце блока
+     */
+    private E removeWithin(int block, int offset) {
+        Object[] elements = blocks[block];
+        int head = heads[block];
+        int length = blockLength(block);
+        E e = (E) elements[(head + offset) & mask];
+        if (offset < length >> 1 && block == blockCount - 1) {
+            for (int i = offset; i > 0; i--) {
+                elements[(head + i) & mask] = elements[(head + i - 1) & mask];
+            }
+            elements[head] = null;
+            heads[block] = (head + 1) & mask;
+        } else {
+            for (int i = offset; i < length - 1; i++) {
+                elements[(head + i) & mask] = elements[(head + i + 1) & mask];
+            }
+            elements[(head + length - 1) & mask] = null;
+        }
+        return e;
+    }
+
+    private Object popBack(int block) {
+        Object[] elements = blocks[block];
+        int position = (heads[block] + blockLength(block) - 1) & mask;
+        Object e = elements[position];
+        elements[position] = null;
+        return e;
+    }
+
+    private void pushFront(int block, Object e) {
+        int head = (heads[block] - 1) & mask;
+        blocks[block][head] = e;
+        heads[block] = head;
+    }
+
+    private Object popFront(int block) {
+        Object[] elements = blocks[block];
+        int head = heads[block];
+        Object e = elements[head];
+        elements[head] = null;
+        heads[block] = (head + 1) & mask;
+        return e;
+    }
+
+    /**
+     * Поворачивает кольцевой блок так, чтобы первый элемент оказался в позиции 0
+     */
+    private void linearize(int block) {
+        int head = heads[block];
+        if (head != 0) {
+            Object[] elements = blocks[block];
+            reverse(elements, 0, head);
+            reverse(elements, head, elements.length);
+            reverse(elements, 0, elements.length);
+            heads[block] = 0;
+        }
+    }
+
+    private static void reverse(Object[] elements, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            Object tmp = elements[i];
+            elements[i] = elements[j];
+            elements[j] = tmp;
+        }
+    }
+
+    /**
+     * Сливает отсортированные блоки кучей по первым необработанным элементам блоков. Исчерпанные исходные
+     * блоки используются для записи результата. При равенстве элементов первым берется элемент блока
+     * с меньшим номером, поэтому слияние сохраняет устойчивость сортировки блоков, если Sorter устойчив
+     */
+    private void merge(Comparator<? super E> c) {
+        int count = blockCount;
+        Object[][] sources = Arrays.copyOf(blocks, count);
+        int[] lengths = new int[count];
+        int[] cursors = new int[count];
+        int[] heap = new int[count];
+        for (int b = 0; b < count; b++) {
+            lengths[b] = blockLength(b);
+            heap[b] = b;
+        }
+        for (int i = (count >>> 1) - 1; i >= 0; i--) {
+            siftDown(heap, i, count, sources, cursors, c);
+        }
+
+        Arrays.fill(blocks, 0, count, null);
+        blockCount = 0;
+        size = 0;
+        Object[][] spare = new Object[count][];
+        int spareCount = 0;
+        Object[] out = null;
+        int outPosition = blockSize();
+        int heapSize = count;
+        while (heapSize > 0) {
+            if (outPosition == blockSize()) {
+                out = spareCount > 0 ? spare[--spareCount] : new Object[blockSize()];
+                blocks[blockCount] = out;
+                heads[blockCount] = 0;
+                blockCount++;
+                outPosition = 0;
+            }
+            int b = heap[0];
+            out[outPosition++] = sources[b][cursors[b]++];
+            size++;
+            if (cursors[b] == lengths[b]) {
+                spare[spareCount++] = sources[b];
+                sources[b] = null;
+                heap[0] = heap[--heapSize];
+            }
+            siftDown(heap, 0, heapSize, sources, cursors, c);
+        }
+        Arrays.fill(out, outPosition, out.length, null);
+    }
+
+    private void siftDown(int[] heap, int i, int heapSize, Object[][] sources, int[] cursors,
+                          Comparator<? super E> c) {
+        while (true) {
+            int smallest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < heapSize && less(heap[left], heap[smallest], sources, cursors, c)) {
+                smallest = left;
+            }
+            if (right < heapSize && less(heap[right], heap[smallest], sources, cursors, c)) {
+                smallest = right;
+            }
+            if (smallest == i) {
+                return;
+            }
+            int tmp = heap[i];
+            heap[i] = heap[smallest];
+            heap[smallest] = tmp;
+            i = smallest;
+        }
+    }
+
+    private boolean less(int a, int b, Object[][] sources, int[] cursors, Comparator<? super E> c) {
+        E x = (E) sources[a][cursors[a]];
+        E y = (E) sources[b][cursors[b]];
+        int cmp;
+        if (x == null || y == null) {
+            cmp = x == null ? (y == null ? 0 : 1) : -1;
+        } else {
+            cmp = c.compare(x, y);
+        }
+        return cmp < 0 || cmp == 0 && a < b;
+    }
+
+    private class Itr implements Iterator<E> {
+        int cursor;       // index of next element to return
+        int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            return get(cursor++);
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package org.example.list;
+
+import org.example.list.api.ICustomArrayList;
+import org.example.list.api.Sorter;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Реализация ICustomArrayList интерфейса на основе кольцевого буфера.
+ * Элементы хранятся в массиве длиной степень двойки начиная с позиции head с переходом через конец массива,
+ * логический индекс переводится в позицию массива маской за O(1).
+ * Добавление и удаление с обоих концов выполняется за O(1) без сдвига элементов, поэтому список подходит
+ * для очереди: add(e) и remove(0). Вставка и удаление по индексу сдвигают меньшую из частей списка.
+ * Перед сортировкой элементы переупорядочиваются так, чтобы head оказался в позиции 0, после чего
+ * логический порядок сортируется заданным Sorter.
+ * Реализация не синхронизирована. Итератор выбрасывает ConcurrentModificationException, если список
+ * был изменен в процессе итерирования.
+ *
+ * @param <E> - тип элементов списка
+ * @author : Kiryl Staravoitau
+ */
+public class CircularCustomArrayList<E> implements ICustomArrayList<E> {
+
+    /**
+     * Начальная емкость списка по умолчанию
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Наибольшая ёмкость: наибольшая степень двойки, допустимая для длины массива
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Реализация сортировки
+     */
+    private final Sorter<E> sorter;
+
+    /**
+     * Элементы списка. Длина массива - степень двойки
+     */
+    private Object[] data;
+
+    /**
+     * Позиция первого элемента в массиве
+     */
+    private int head;
+
+    /**
+     * Размер списка
+     */
+    private int size;
+
+    /**
+     * Счетчик модификаций. Необходим для отслеживания изменений списка при итерации
+     */
+    private int modCount;
+
+    /**
+     * Создает пустой список с желаемой начальной емкостью и реализацией сортировки.
+     * Ёмкость округляется вверх до степени двойки
+     *
+     * @param capacity - начальная емкость списка
+     * @param sorter   - реализация сортировки
+     * @throws IllegalArgumentException - если передано отрицательное значение емкости или емкость больше 2^30
+     */
+    public CircularCustomArrayList(int capacity, Sorter<E> sorter) {
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+        }
+        this.data = new Object[capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1];
+        this.sorter = sorter;
+    }
+
+    /**
+     * Создает пустой список с желаемой начальной емкостью. Ёмкость округляется вверх до степени двойки
+     *
+     * @param capacity - начальная емкость списка
+     * @throws IllegalArgumentException - если передано отрицательное значение емкости или емкость больше 2^30
+     */
+    public CircularCustomArrayList(int capacity) {
+        this(capacity, new IntroSorter<>());
+    }
+
+    /**
+     * Создает пустой список с начальной емкостью 16 и желаемой реализацией сортировки
+     *
+     * @param sorter - реализация сортировки
+     */
+    public CircularCustomArrayList(Sorter<E> sorter) {
+        this(DEFAULT_CAPACITY, sorter);
+    }
+
+    /**
+     * Создает пустой список с начальной емкостью 16
+     */
+    public CircularCustomArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Добавляет элемент в конец списка за O(1)
+     *
+     * @param e - вставляемый элемент
+     */
+    @Override
+    public void add(E e) {
+        modCount++;
+        ensureCapacity();
+        data[position(size)] = e;
+        size++;
+    }
+
+    /**
+     * Добавляет элемент в начало списка за O(1)
+     *
+     * @param e - вставляемый элемент
+     */
+    public void addFirst(E e) {
+        modCount++;
+        ensureCapacity();
+        head = (head - 1) & (data.length - 1);
+        data[head] = e;
+        size++;
+    }
+
+    /**
+     * Добавляет элемент по индексу. Сдвигается меньшая из частей списка слева или справа от индекса
+     *
+     * @param index - индекс по которому недходимо произвести вставку
+     * @param e     - вставляемый элемент
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public void add(int index, E e) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+        modCount++;
+        ensureCapacity();
+        if (index < size >> 1) {
+            head = (head - 1) & (data.length - 1);
+            for (int i = 0; i < index; i++) {
+                data[position(i)] = data[position(i + 1)];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                data[position(i)] = data[position(i - 1)];
+            }
+        }
+        data[position(index)] = e;
+        size++;
+    }
+
+    /**
+     * Получает элемент по индексу
+     *
+     * @param index - индексы получаемого элемента
+     * @return : элемент по искомому индексу
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) data[position(index)];
+    }
+
+    /**
+     * Удаляет элемент спика по индексу. Сдвигается меньшая из частей списка слева или справа от индекса,
+     * поэтому удаление первого и последнего элемента выполняется за O(1)
+     *
+     * @param index - индекс удаляемго элемента
+     * @return - удаленный элемент
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        modCount++;
+        E e = (E) data[position(index)];
+        if (index < size >> 1) {
+            for (int i = index; i > 0; i--) {
+                data[position(i)] = data[position(i - 1)];
+            }
+            data[head] = null;
+            head = (head + 1) & (data.length - 1);
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                data[position(i)] = data[position(i + 1)];
+            }
+            data[position(size - 1)] = null;
+        }
+        size--;
+        return e;
+    }
+
+    /**
+     * Удаляет первый элемент списка за O(1)
+     *
+     * @return : удаленный элемент
+     * @throws NoSuchElementException - если список пуст
+     */
+    public E removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return remove(0);
+    }
+
+    /**
+     * Удаляет последний элемент списка за O(1)
+     *
+     * @return : удаленный элемент
+     * @throws NoSuchElementException - если список пуст
+     */
+    public E removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return remove(size - 1);
+    }
+
+    /**
+     * Очищает список
+     */
+    @Override
+    public void clear() {
+        modCount++;
+        for (int i = 0; i < size; i++) {
+            data[position(i)] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Сортирует список в соответсвии с заданным компоратором. Перед сортировкой элементы переупорядочиваются
+     * так, чтобы первый элемент оказался в позиции 0
+     *
+     * @param c - реализация Comparator для элементов списка
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        modCount++;
+        linearize(data.length);
+        sorter.sort(data, 0, size, c);
+    }
+
+    /**
+     * Заменяет елемент списка по индексу
+     *
+     * @param index - индекс по которому проводится замена
+     * @param e     - элемент на который нужно заменить
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public void replace(int index, E e) {
+        Objects.checkIndex(index, size);
+        modCount++;
+        data[position(index)] = e;
+    }
+
+    /**
+     * Возвращает размер списка
+     *
+     * @return : размер списка
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает текущую ёмкость списка
+     *
+     * @return : длина массива элементов
+     */
+    public int capacity() {
+        return data.length;
+    }
+
+    /**
+     * Возвращает копию элементов списка в логическом порядке
+     *
+     * @return : массив элементов списка
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] elements = new Object[size];
+        int first = Math.min(size, data.length - head);
+        System.arraycopy(data, head, elements, 0, first);
+        System.arraycopy(data, 0, elements, first, size - first);
+        return elements;
+    }
+
+    /**
+     * Предоставляет итератор для списка
+     *
+     * @return : итератор для списка
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private int position(int index) {
+        return (head + index) & (data.length - 1);
+    }
+
+    private void ensureCapacity() {
+        if (size == data.length) {
+            if (data.length == MAX_CAPACITY) {
+                throw new OutOfMemoryError("Required capacity exceeds implementation limit");
+            }
+            linearize(data.length << 1);
+        }
+    }
+
+    /**
+     * Переносит элементы в массив длиной capacity так, чтобы первый элемент оказался в позиции 0
+     */
+    private void linearize(int capacity) {
+        if (head == 0 && capacity == data.length) {
+            return;
+        }
+        Object[] newData = new Object[capacity];
+        int first = Math.min(size, data.length - head);
+        System.arraycopy(data, head, newData, 0, first);
+        System.arraycopy(data, 0, newData, first, size - first);
+        data = newData;
+        head = 0;
+    }
+
+    private class Itr implements Iterator<E> {
+        int cursor;       // index of next element to return
+        int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            return get(cursor++);
+        }
+    }
+}
@@ -0,0 +1,528 @@
+package org.example.list;
+
+import org.example.list.api.GrowthPolicy;
+import org.example.list.api.ICustomArrayList;
+import org.example.list.api.Sorter;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+/**
+ * Потокобезопасная реализация саморасширяемого массива элементов ICustomArrayList интерфейса.
+ * Доступ к массиву защищен StampedLock. Операции чтения (get, size, toArray, поиск и итерация) выполняются
+ * оптимистично без захвата блокировки: значения читаются, после чего проверяется, что за время чтения
+ * не было записи. Только если запись была, чтение повторяется под блокировкой чтения. Поэтому читающие потоки
+ * не блокируют друг друга и не пишут в общую память. Операции изменения (add, remove, replace, clear, sort,
+ * пакетные операции и расширение массива) выполняются под блокировкой записи и атомарны.
+ * Итератор слабо согласован: он не выбрасывает ConcurrentModificationException, каждый элемент читается
+ * атомарно, но при одновременном изменении списка элементы могут быть пропущены или прочитаны повторно.
+ *
+ * @param <E> - тип элементов списка
+ * @author : Kiryl Staravoitau
+ */
+public class ConcurrentCustomArrayList<E> implements ICustomArrayList<E> {
+
+    /**
+     * Начальная емкость списка по умолчанию
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * Реализация сортировки
+     */
+    private final Sorter<E> sorter;
+
+    /**
+     * Политика расширения массива
+     */
+    private final GrowthPolicy growthPolicy = GrowthPolicies.oneAndHalf();
+
+    /**
+     * Элементы списка. Изменяется только под блокировкой записи
+     */
+    private Object[] data;
+
+    /**
+     * Размер списка. Изменяется только под блокировкой записи
+     */
+    private int size;
+
+    /**
+     * Создает пустой список с желаемой начальной емкостью и желаемой реализацией сортировки
+     *
+     * @param capacity - начальная емкость списка
+     * @param sorter   - реализация сортировки
+     * @throws IllegalArgumentException - если передано отрицательное значение емкости
+     */
+    public ConcurrentCustomArrayList(int capacity, Sorter<E> sorter) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+        }
+        data = new Object[capacity];
+        this.sorter = sorter;
+    }
+
+    /**
+     * Создает пустой список с желаемой начальной емкостью
+     *
+     * @param capacity - начальная емкость списка
+     * @throws IllegalArgumentException - если передано отрицательное значение емкости
+     */
+    public ConcurrentCustomArrayList(int capacity) {
+        this(capacity, new IntroSorter<>());
+    }
+
+    /**
+     * Создает пустой список с начальной емкостью 10 и интроспективной сортировкой в качестве алгоритма сортировки
+     */
+    public ConcurrentCustomArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Возвращает размер списка
+     *
+     * @return : размер списка
+     */
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int currentSize = size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                currentSize = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return currentSize;
+    }
+
+    /**
+     * Добавляет элемент в конец списка
+     *
+     * @param e - вставляемый элемент
+     */
+    @Override
+    public void add(E e) {
+        long stamp = lock.writeLock();
+        try {
+            ensureCapacity(size + 1);
+            data[size++] = e;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Добавляет элемент по индексу. Элементы справа от индекса смещаются на одну позицию вправо
+     *
+     * @param index - индекс по которому недходимо произвести вставку
+     * @param e     - вставляемый элемент
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public void add(int index, E e) {
+        long stamp = lock.writeLock();
+        try {
+            checkPositionIndex(index);
+            ensureCapacity(size + 1);
+            System.arraycopy(data, index, data, index + 1, size - index);
+            data[index] = e;
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Получает элемент по индексу
+     *
+     * @param index - индексы получаемого элемента
+     * @return : элемент по искомому индексу
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public E get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        Object[] elements = data;
+        int currentSize = size;
+        Object e = index >= 0 && index < currentSize && index < elements.length ? elements[index] : null;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                currentSize = size;
+                e = index >= 0 && index < currentSize ? data[index] : null;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        if (index < 0 || index >= currentSize) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+        return (E) e;
+    }
+
+    /**
+     * Удаляет элемент спика по индексу. Элменты справа от удаляемого смещаются на одну позицию влево
+     *
+     * @param index - индекс удаляемго элемента
+     * @return - удаленный элемент
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public E remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            checkIndex(index);
+            E e = (E) data[index];
+            System.arraycopy(data, index + 1, data, index, size - index - 1);
+            data[--size] = null;
+            return e;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Очищает список
+     */
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            Arrays.fill(data, 0, size, null);
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Сортирует список в соответсвии с заданным компоратором. Читающие потоки не видят промежуточного
+     * состояния сортировки
+     *
+     * @param c - реализация Comparator для элементов списка
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        long stamp = lock.writeLock();
+        try {
+            sorter.sort(data, 0, size, c);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Заменяет елемент списка по индексу
+     *
+     * @param index - индекс по которому проводится замена
+     * @param e     - элемент на который нужно заменить
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public void replace(int index, E e) {
+        long stamp = lock.writeLock();
+        try {
+            checkIndex(index);
+            data[index] = e;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Возвращает согласованную копию элементов списка
+     *
+     * @return : массив элементов списка
+     */
+    @Override
+    public Object[] toArray() {
+        long stamp = lock.tryOptimisticRead();
+        Object[] elements = data;
+        int currentSize = size;
+        Object[] copy = currentSize <= elements.length ? Arrays.copyOf(elements, currentSize) : null;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                copy = Arrays.copyOf(data, size);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента. Поиск выполняется по согласованной копии списка,
+     * поэтому одновременное удаление элементов не приводит к IndexOutOfBoundsException
+     *
+     * @param o - искомый элемент
+     * @return : индекс первого вхождения или -1, если элемент не найден
+     */
+    @Override
+    public int indexOf(Object o) {
+        Object[] elements = toArray();
+        for (int i = 0; i < elements.length; i++) {
+            if (Objects.equals(o, elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает индекс последнего вхождения элемента. Поиск выполняется по согласованной копии списка
+     *
+     * @param o - искомый элемент
+     * @return : индекс последнего вхождения или -1, если элемент не найден
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        Object[] elements = toArray();
+        for (int i = elements.length - 1; i >= 0; i--) {
+            if (Objects.equals(o, elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Проверяет наличие элемента в согласованной копии списка
+     *
+     * @param o - искомый элемент
+     * @return : true если элемент найден
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Атомарно добавляет элементы коллекции в конец списка
+     *
+     * @param c - коллекция добавляемых элементов
+     */
+    @Override
+    public void addAll(Collection<? extends E> c) {
+        insertArray(-1, c.toArray());
+    }
+
+    /**
+     * Атомарно добавляет элементы массива в конец списка
+     *
+     * @param elements - массив добавляемых элементов
+     */
+    @Override
+    public void addAll(E[] elements) {
+        insertArray(-1, elements);
+    }
+
+    /**
+     * Атомарно добавляет элементы другого списка в конец списка
+     *
+     * @param list - список добавляемых элементов
+     */
+    @Override
+    public void addAll(ICustomArrayList<? extends E> list) {
+        insertArray(-1, list.toArray());
+    }
+
+    /**
+     * Атомарно добавляет элементы коллекции по индексу
+     *
+     * @param index - индекс по которому недходимо произвести вставку
+     * @param c     - коллекция добавляемых элементов
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public void addAll(int index, Collection<? extends E> c) {
+        insertArray(index, c.toArray());
+    }
+
+    /**
+     * Атомарно добавляет элементы массива по индексу
+     *
+     * @param index    - индекс по которому недходимо произвести вставку
+     * @param elements - массив добавляемых элементов
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public void addAll(int index, E[] elements) {
+        insertArray(index, elements);
+    }
+
+    /**
+     * Атомарно добавляет элементы другого списка по индексу
+     *
+     * @param index - индекс по которому недходимо произвести вставку
+     * @param list  - список добавляемых элементов
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public void addAll(int index, ICustomArrayList<? extends E> list) {
+        insertArray(index, list.toArray());
+    }
+
+    /**
+     * Атомарно удаляет элементы диапазона [from, to)
+     *
+     * @param from - индекс первого удаляемого элемента (включительно)
+     * @param to   - индекс последнего удаляемого элемента (исключительно)
+     * @throws IndexOutOfBoundsException - если диапазон выходит за пределы списка
+     */
+    @Override
+    public void removeRange(int from, int to) {
+        long stamp = lock.writeLock();
+        try {
+            Objects.checkFromToIndex(from, to, size);
+            System.arraycopy(data, to, data, from, size - to);
+            int newSize = size - (to - from);
+            Arrays.fill(data, newSize, size, null);
+            size = newSize;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Атомарно удаляет все элементы, удовлетворяющие условию. Условие проверяется под блокировкой записи,
+     * поэтому оно не должно обращаться к этому списку. Элементы смещаются только после проверки условия
+     * для всех элементов, поэтому исключение, выброшенное условием, оставляет список без изменений
+     *
+     * @param filter - условие удаления
+     * @return : true если был удален хотя бы один элемент
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        long stamp = lock.writeLock();
+        try {
+            BitSet removed = new BitSet(size);
+            for (int i = 0; i < size; i++) {
+                if (filter.test((E) data[i])) {
+                    removed.set(i);
+                }
+            }
+            if (removed.isEmpty()) {
+                return false;
+            }
+            int write = removed.nextSetBit(0);
+            for (int read = write + 1; read < size; read++) {
+                if (!removed.get(read)) {
+                    data[write++] = data[read];
+                }
+            }
+            Arrays.fill(data, write, size, null);
+            size = write;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Предоставляет слабо согласованный итератор для списка
+     *
+     * @return : итератор для списка
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private void insertArray(int index, Object[] elements) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0) {
+                index = size;
+            } else {
+                checkPositionIndex(index);
+            }
+            int length = elements.length;
+            ensureCapacity(size + length);
+            System.arraycopy(data, index, data, index + length, size - index);
+            System.arraycopy(elements, 0, data, index, length);
+            size += length;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) {
+            data = Arrays.copyOf(data, Math.max(growthPolicy.grow(data.length, minCapacity), minCapacity));
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index > size - 1) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+    }
+
+    private class Itr implements Iterator<E> {
+        int cursor;       // index of next element to return
+        Object next;      // element read together with a successful hasNext
+        boolean hasNext;
+
+        @Override
+        public boolean hasNext() {
+            if (hasNext) {
+                return true;
+            }
+            long stamp = lock.tryOptimisticRead();
+            Object[] elements = data;
+            int currentSize = size;
+            boolean found = cursor < currentSize && cursor < elements.length;
+            Object e = found ? elements[cursor] : null;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    found = cursor < size;
+                    e = found ? data[cursor] : null;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            next = e;
+            hasNext = found;
+            return found;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object e = next;
+            next = null;
+            hasNext = false;
+            cursor++;
+            return (E) e;
+        }
+    }
+}
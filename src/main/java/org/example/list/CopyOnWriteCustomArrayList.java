@@ -0,0 +1,501 @@
+package org.example.list;
+
+import org.example.list.api.GrowthPolicy;
+import org.example.list.api.ICustomArrayList;
+import org.example.list.api.Sorter;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Реализация саморасширяемого массива элементов ICustomArrayList интерфейса с копированием при записи.
+ * Метод snapshot за O(1) возвращает неизменяемое представление текущего состояния списка, разделяющее
+ * с ним массив элементов. Массив копируется лениво, только при первом после снимка изменении уже существующих
+ * элементов (вставка и удаление по индексу, замена, сортировка, очистка). Добавление в конец списка записывает
+ * элементы за пределами всех снимков и поэтому выполняется без копирования.
+ * Снимки можно передавать любому количеству читающих потоков: они никогда не блокируются и не выбрасывают
+ * ConcurrentModificationException. Сам список не синхронизирован и рассчитан на одного пишущего потока.
+ * Итератор списка обходит его снимок на момент создания итератора.
+ *
+ * @param <E> - тип элементов списка
+ * @author : Kiryl Staravoitau
+ */
+public class CopyOnWriteCustomArrayList<E> implements ICustomArrayList<E> {
+
+    /**
+     * Начальная емкость списка по умолчанию
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Реализация сортировки
+     */
+    private final Sorter<E> sorter;
+
+    /**
+     * Политика расширения массива
+     */
+    private final GrowthPolicy growthPolicy = GrowthPolicies.oneAndHalf();
+
+    /**
+     * Элементы списка
+     */
+    private Object[] data;
+
+    /**
+     * Размер списка
+     */
+    private int size;
+
+    /**
+     * Признак того, что массив элементов разделяется хотя бы с одним снимком
+     */
+    private boolean shared;
+
+    /**
+     * Создает пустой список с желаемой начальной емкостью и желаемой реализацией сортировки
+     *
+     * @param capacity - начальная емкость списка
+     * @param sorter   - реализация сортировки
+     * @throws IllegalArgumentException - если передано отрицательное значение емкости
+     */
+    public CopyOnWriteCustomArrayList(int capacity, Sorter<E> sorter) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+        }
+        data = new Object[capacity];
+        this.sorter = sorter;
+    }
+
+    /**
+     * Создает пустой список с желаемой начальной емкостью
+     *
+     * @param capacity - начальная емкость списка
+     * @throws IllegalArgumentException - если передано отрицательное значение емкости
+     */
+    public CopyOnWriteCustomArrayList(int capacity) {
+        this(capacity, new IntroSorter<>());
+    }
+
+    /**
+     * Создает пустой список с начальной емкостью 10 и интроспективной сортировкой в качестве алгоритма сортировки
+     */
+    public CopyOnWriteCustomArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Возвращает неизменяемое представление текущего состояния списка за O(1).
+     * Последующие изменения списка не отражаются в снимке
+     *
+     * @return : неизменяемый снимок списка
+     */
+    public ICustomArrayList<E> snapshot() {
+        shared = true;
+        return new Snapshot<>(data, size);
+    }
+
+    /**
+     * Добавляет элемент в конец списка. Массив не копируется даже если он разделяется со снимками
+     *
+     * @param e - вставляемый элемент
+     */
+    @Override
+    public void add(E e) {
+        ensureCapacity(size + 1);
+        data[size++] = e;
+    }
+
+    /**
+     * Добавляет элемент по индексу. Элементы справа от индекса смещаются на одну позицию вправо
+     *
+     * @param index - индекс по которому недходимо произвести вставку
+     * @param e     - вставляемый элемент
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public void add(int index, E e) {
+        checkPositionIndex(index);
+        prepareWrite(size + 1);
+        System.arraycopy(data, index, data, index + 1, size - index);
+        data[index] = e;
+        size++;
+    }
+
+    /**
+     * Получает элемент по индексу
+     *
+     * @param index - индексы получаемого элемента
+     * @return : элемент по искомому индексу
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) data[index];
+    }
+
+    /**
+     * Удаляет элемент спика по индексу. Элменты справа от удаляемого смещаются на одну позицию влево
+     *
+     * @param index - индекс удаляемго элемента
+     * @return - удаленный элемент
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        prepareWrite(size);
+        E e = (E) data[index];
+        System.arraycopy(data, index + 1, data, index, size - index - 1);
+        data[--size] = null;
+        return e;
+    }
+
+    /**
+     * Очищает список. Если массив разделяется со снимками, вместо его очистки создается новый массив
+     */
+    @Override
+    public void clear() {
+        if (shared) {
+            data = new Object[data.length];
+            shared = false;
+        } else {
+            Arrays.fill(data, 0, size, null);
+        }
+        size = 0;
+    }
+
+    /**
+     * Сортирует список в соответсвии с заданным компоратором. Ранее созданные снимки не изменяются
+     *
+     * @param c - реализация Comparator для элементов списка
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        prepareWrite(size);
+        sorter.sort(data, 0, size, c);
+    }
+
+    /**
+     * Заменяет елемент списка по индексу
+     *
+     * @param index - индекс по которому проводится замена
+     * @param e     - элемент на который нужно заменить
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public void replace(int index, E e) {
+        Objects.checkIndex(index, size);
+        prepareWrite(size);
+        data[index] = e;
+    }
+
+    /**
+     * Возвращает размер списка
+     *
+     * @return : размер списка
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает копию элементов списка
+     *
+     * @return : массив элементов списка
+     */
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента. Поиск выполняется по текущему массиву без вызова get
+     *
+     * @param o - искомый элемент
+     * @return : индекс первого вхождения или -1, если элемент не найден
+     */
+    @Override
+    public int indexOf(Object o) {
+        Object[] elements = data;
+        int end = Math.min(size, elements.length);
+        for (int i = 0; i < end; i++) {
+            if (Objects.equals(o, elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает индекс последнего вхождения элемента. Поиск выполняется по текущему массиву без вызова get
+     *
+     * @param o - искомый элемент
+     * @return : индекс последнего вхождения или -1, если элемент не найден
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        Object[] elements = data;
+        for (int i = Math.min(size, elements.length) - 1; i >= 0; i--) {
+            if (Objects.equals(o, elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Проверяет наличие элемента в текущем массиве списка
+     *
+     * @param o - искомый элемент
+     * @return : true если элемент найден
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Добавляет элементы коллекции в конец списка без копирования разделяемого массива
+     *
+     * @param c - коллекция добавляемых элементов
+     */
+    @Override
+    public void addAll(Collection<? extends E> c) {
+        Object[] elements = c.toArray();
+        ensureCapacity(size + elements.length);
+        System.arraycopy(elements, 0, data, size, elements.length);
+        size += elements.length;
+    }
+
+    /**
+     * Удаляет элементы диапазона [from, to)
+     *
+     * @param from - индекс первого удаляемого элемента (включительно)
+     * @param to   - индекс последнего удаляемого элемента (исключительно)
+     * @throws IndexOutOfBoundsException - если диапазон выходит за пределы списка
+     */
+    @Override
+    public void removeRange(int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        prepareWrite(size);
+        System.arraycopy(data, to, data, from, size - to);
+        int newSize = size - (to - from);
+        Arrays.fill(data, newSize, size, null);
+        size = newSize;
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие условию. Массив копируется только если найден удаляемый элемент.
+     * Элементы перемещаются только после проверки условия для всех элементов, поэтому исключение,
+     * выброшенное условием, оставляет список без изменений. Разделяемый со снимками массив не копируется
+     * целиком: оставшиеся элементы сразу собираются в новом массиве
+     *
+     * @param filter - условие удаления
+     * @return : true если был удален хотя бы один элемент
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        int first = 0;
+        while (first < size && !filter.test((E) data[first])) {
+            first++;
+        }
+        if (first == size) {
+            return false;
+        }
+        BitSet removed = new BitSet(size - first);
+        removed.set(0);
+        for (int i = first + 1; i < size; i++) {
+            if (filter.test((E) data[i])) {
+                removed.set(i - first);
+            }
+        }
+        Object[] target = data;
+        if (shared) {
+            target = new Object[data.length];
+            System.arraycopy(data, 0, target, 0, first);
+        }
+        int write = first;
+        for (int read = first + 1; read < size; read++) {
+            if (!removed.get(read - first)) {
+                target[write++] = data[read];
+            }
+        }
+        if (!shared) {
+            Arrays.fill(data, write, size, null);
+        }
+        data = target;
+        shared = false;
+        size = write;
+        return true;
+    }
+
+    /**
+     * Предоставляет итератор по снимку списка на момент вызова. Итератор никогда не выбрасывает
+     * ConcurrentModificationException
+     *
+     * @return : итератор для списка
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return snapshot().iterator();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Подготавливает массив к изменению существующих элементов: если массив разделяется со снимками,
+     * список переходит на собственную копию
+     */
+    private void prepareWrite(int minCapacity) {
+        if (shared) {
+            int capacity = minCapacity > data.length
+                    ? Math.max(growthPolicy.grow(data.length, minCapacity), minCapacity)
+                    : data.length;
+            data = Arrays.copyOf(data, capacity);
+            shared = false;
+        } else {
+            ensureCapacity(minCapacity);
+        }
+    }
+
+    /**
+     * Расширяет массив при необходимости. Разделяемый массив при расширении копируется и перестает быть
+     * разделяемым, а без расширения в нем изменяются только ячейки за пределами всех снимков
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) {
+            data = Arrays.copyOf(data, Math.max(growthPolicy.grow(data.length, minCapacity), minCapacity));
+            shared = false;
+        }
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+    }
+
+    /**
+     * Неизменяемое представление списка. Поля final гарантируют, что читающие потоки видят элементы,
+     * записанные до создания снимка
+     */
+    private static final class Snapshot<E> implements ICustomArrayList<E> {
+        private final Object[] data;
+        private final int size;
+
+        Snapshot(Object[] data, int size) {
+            this.data = data;
+            this.size = size;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            return (E) data[index];
+        }
+
+        @Override
+        public Object[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+
+        @Override
+        public void forEach(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            for (int i = 0; i < size; i++) {
+                action.accept((E) data[i]);
+            }
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<>() {
+                int cursor;
+
+                @Override
+                public boolean hasNext() {
+                    return cursor < size;
+                }
+
+                @Override
+                public E next() {
+                    if (cursor >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return (E) data[cursor++];
+                }
+            };
+        }
+
+        @Override
+        public Spliterator<E> spliterator() {
+            return Spliterators.spliterator(data, 0, size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        }
+
+        @Override
+        public void add(E e) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(int index, E e) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public E remove(int index) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void sort(Comparator<? super E> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void replace(int index, E e) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void removeRange(int from, int to) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super E> filter) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(toArray());
+        }
+    }
+}
@@ -1,17 +1,38 @@
 package org.example.list;
 
+import org.example.list.api.ElementCodec;
+import org.example.list.api.GrowthPolicy;
 import org.example.list.api.ICustomArrayList;
+import org.example.list.api.IntObjConsumer;
+import org.example.list.api.ListMetrics;
 import org.example.list.api.Sorter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Реализация саморасширяемого массива элементов ICustomArrayList интерфейса.
  * CustomArrayList имеет началную ёмкость, которая может быть задана при создании списка или
  * установлена по умолчанию в размере 10 элементов. Список может быть отсортировон. За спосод
  * сортировки отвечает Sorter который может быть передан в конструкторе или установлен по умолчанию.
- * По умолчанию устанавливается алгоритм быстрой сортировке.
- * Реализация не синхронизирована.
+ * По умолчанию устанавливается алгоритм интроспективной сортировки (IntroSorter).
+ * Изменение ёмкости определяется политикой GrowthPolicy, которая также может быть передана в конструкторе.
+ * По умолчанию массив расширяется в полтора раза и никогда не уменьшается автоматически.
+ * Расширения массива, сортировки и смещения большого количества элементов записываются событиями JFR,
+ * а по запросу (enableMetrics) список собирает счетчики, доступные через JMX.
+ * Список запоминает компаратор последней сортировки и сохраняет его, пока изменения не нарушают порядок,
+ * поэтому повторная сортировка тем же компаратором не выполняется. Сортировку можно отложить (lazySort)
+ * до следующего чтения. Элементы отсортированного списка не должны изменяться так, чтобы менялся их порядок.
+ * Реализация не синхронизирована. После lazySort даже чтение (get, обход, поиск, toString) выполняет
+ * отложенную сортировку и изменяет массив и счетчик модификаций, поэтому одновременное чтение списка из
+ * нескольких потоков без внешней синхронизации безопасно, только если отложенной сортировки нет.
  * Так предоставляется возможность воспользоваться Iterator для итеррирования спика. В процессе итеррирования
  * список не может быть изменен. В противном случает будет выброшено ConcurrentModificationException.
  *
@@ -30,6 +51,11 @@ public class CustomArrayList<E> implements ICustomArrayList<E> {
      */
     private final Sorter<E> sorter;
 
+    /**
+     * Политика изменения ёмкости
+     */
+    private final GrowthPolicy growthPolicy;
+
     /**
      * Элементы списка
      */
@@ -45,20 +71,54 @@ public class CustomArrayList<E> implements ICustomArrayList<E> {
      */
     private int modCount = 0;
 
+    /**
+     * Хеш-индекс элементов. null, если индекс не включен
+     */
+    private ElementIndex elementIndex;
 
     /**
-     * Создает пустой список с желаемой начальной емкостью и желаемой реализацией сортировки
+     * Счетчики метрик. null, если метрики не включены
+     */
+    private ListMetricsRecorder metrics;
+
+    /**
+     * Компаратор, по которому сейчас отсортирован массив элементов (значения null в конце), без учета
+     * отложенной сортировки. null, если порядок неизвестен
+     */
+    private Comparator<? super E> sortedBy;
+
+    /**
+     * Отложенная сортировка, которая будет выполнена при следующем чтении. null, если сортировка не отложена
+     */
+    private Comparator<? super E> pendingSort;
+
+    /**
+     * Создает пустой список с желаемой начальной емкостью, желаемой реализацией сортировки и
+     * желаемой политикой изменения ёмкости
      *
-     * @param capacity - начальная емкость списка
-     * @param sorter   - реализация сортировки
+     * @param capacity     - начальная емкость списка
+     * @param sorter       - реализация сортировки
+     * @param growthPolicy - политика изменения ёмкости
      * @throws IllegalArgumentException - если передано отрицательное значение емкости
      */
-    public CustomArrayList(int capacity, Sorter<E> sorter) {
+    public CustomArrayList(int capacity, Sorter<E> sorter, GrowthPolicy growthPolicy) {
         if (capacity < 0) {
             throw new IllegalArgumentException("Illegal Capacity: " + capacity);
         }
         data = new Object[capacity];
         this.sorter = sorter;
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+    }
+
+    /**
+     * Создает пустой список с желаемой начальной емкостью и желаемой реализацией сортировки
+     *
+     * @param capacity - начальная емкость списка
+     * @param sorter   - реализация сортировки
+     * @throws IllegalArgumentException - если передано отрицательное значение емкости
+     */
+    public CustomArrayList(int capacity, Sorter<E> sorter) {
+        this(capacity, sorter, GrowthPolicies.oneAndHalf());
     }
 
     /**
@@ -68,11 +128,7 @@ public class CustomArrayList<E> implements ICustomArrayList<E> {
      * @throws IllegalArgumentException - если передано отрицательное значение емкости
      */
     public CustomArrayList(int capacity) {
-        if (capacity < 0) {
-            throw new IllegalArgumentException("Illegal Capacity: " + capacity);
-        }
-        data = new Object[capacity];
-        this.sorter = new QuickSorter<>();
+        this(capacity, new IntroSorter<>());
     }
 
     /**
@@ -81,16 +137,23 @@ public class CustomArrayList<E> implements ICustomArrayList<E> {
      * @param sorter - реализация сортировки
      */
     public CustomArrayList(Sorter<E> sorter) {
-        data = new Object[DEFAULT_CAPACITY];
-        this.sorter = sorter;
+        this(DEFAULT_CAPACITY, sorter);
     }
 
     /**
-     * Создает пустой списко с начальной емкостью 10 и быстрой сортировкой в качестве алгоритма сортировке
+     * Создает пустой список с начальной емкостью 10 и желаемой политикой изменения ёмкости
+     *
+     * @param growthPolicy - политика изменения ёмкости
+     */
+    public CustomArrayList(GrowthPolicy growthPolicy) {
+        this(DEFAULT_CAPACITY, new IntroSorter<>(), growthPolicy);
+    }
+
+    /**
+     * Создает пустой списко с начальной емкостью 10 и интроспективной сортировкой в качестве алгоритма сортировке
      */
     public CustomArrayList() {
-        data = new Object[DEFAULT_CAPACITY];
-        this.sorter = new QuickSorter<>();
+        this(DEFAULT_CAPACITY, new IntroSorter<>());
     }
 
     /**
@@ -101,6 +164,12 @@ public class CustomArrayList<E> implements ICustomArrayList<E> {
     public void add(E e) {
         modCount++;
         ensureCapacity(size + 1);
+        if (elementIndex != null) {
+            elementIndex.append(e, size);
+        }
+        if (sortedBy != null && size > 0 && !inOrder((E) data[size - 1], e)) {
+            sortedBy = null;
+        }
         data[size++] = e;
     }
 
@@ -117,8 +186,22 @@ public class CustomArrayList<E> implements ICustomArrayList<E> {
         if (index < 0 || index > size) {
             throw new IndexOutOfBoundsException("Illegal index: " + index);
         }
+        if (index < size) {
+            materialize();
+        }
         ensureCapacity(size + 1);
+        if (elementIndex != null) {
+            if (index == size) {
+                elementIndex.append(e, index);
+            } else {
+                elementIndex.invalidate();
+            }
+        }
+        if (sortedBy != null && !fitsBetween(index - 1, e, index)) {
+            sortedBy = null;
+        }
         System.arraycopy(this.data, index, this.data, index + 1, size - index);
+        shifted("add", size - index);
         this.data[index] = e;
         size++;
     }
@@ -133,6 +216,7 @@ public class CustomArrayList<E> implements ICustomArrayList<E> {
     @Override
     public E get(int index) {
         checkIndex(index);
+        materialize();
         return (E) this.data[index];
     }
 
@@ -147,35 +231,188 @@ public class CustomArrayList<E> implements ICustomArrayList<E> {
     public E remove(int index) {
         modCount++;
         checkIndex(index);
-        E e = get(index);
-        int newSize = size--;
+        materialize();
+        E e = (E) this.data[index];
+        if (elementIndex != null) {
+            if (index == size - 1) {
+                elementIndex.removeLast(e, index);
+            } else {
+                elementIndex.invalidate();
+            }
+        }
+        int newSize = --size;
         if (index < newSize) {
             System.arraycopy(this.data, index + 1, this.data, index, newSize - index);
+            shifted("remove", newSize - index);
         }
-        this.data[newSize - 1] = null;
+        this.data[newSize] = null;
+        shrinkIfNeeded();
         return e;
     }
 
     /**
-     * Очищает список
+     * Очищает список. Ёмкость списка уменьшается, если этого требует политика изменения ёмкости
      *
      */
     @Override
     public void clear() {
         modCount++;
-        Arrays.fill(this.data, null);
+        Arrays.fill(this.data, 0, size, null);
         size = 0;
+        pendingSort = null;
+        if (elementIndex != null) {
+            elementIndex.clear();
+        }
+        shrinkIfNeeded();
     }
 
     /**
-     * Сортирует список в соответсвии с заданным компоратором
+     * Сортирует список в соответсвии с заданным компоратором.
+     * Сортируются только элементы списка, свободная ёмкость массива не затрагивается.
+     * Если список уже отсортирован этим компаратором и с тех пор не менялся (или менялся с сохранением порядка),
+     * сортировка не выполняется. Отложенная сортировка lazySort отменяется
      *
      * @param c - реализация Comparator для элементов списка
      */
     @Override
     public void sort(Comparator<? super E> c) {
+        pendingSort = null;
+        if (c != null && c.equals(sortedBy)) {
+            return;
+        }
+        sortNow(c);
+    }
+
+    /**
+     * Откладывает сортировку списка до следующего чтения. Повторные вызовы и добавления в конец списка
+     * до чтения объединяются в одну сортировку последним переданным компаратором, поэтому порядок равных
+     * элементов, заданный предыдущими компараторами, не сохраняется.
+     * Сортировка выполняется при получении элемента, обходе, поиске, записи, а также перед вставкой,
+     * удалением и заменой по индексу. Пока сортировка отложена, чтение изменяет список и не должно
+     * выполняться одновременно из нескольких потоков
+     *
+     * @param c - реализация Comparator для элементов списка
+     */
+    public void lazySort(Comparator<? super E> c) {
+        Objects.requireNonNull(c);
+        if (c.equals(pendingSort != null ? pendingSort : sortedBy)) {
+            return;
+        }
+        modCount++;
+        pendingSort = c.equals(sortedBy) ? null : c;
+    }
+
+    /**
+     * Проверяет, отсортирован ли список заданным компаратором с учетом отложенной сортировки.
+     * Порядок отслеживается после sort, lazySort и добавлений, которые его не нарушают.
+     * Значения null считаются наибольшими
+     *
+     * @param c - реализация Comparator для элементов списка
+     * @return : true, если список отсортирован этим компаратором
+     */
+    public boolean isSortedBy(Comparator<? super E> c) {
+        return pendingSort != null ? pendingSort.equals(c) : c != null && c.equals(sortedBy);
+    }
+
+    /**
+     * Сортирует список в соответсвии с заданным компоратором, используя несколько потоков общего ForkJoinPool.
+     * Сортировка выполняется реализацией ParallelSorter независимо от сортировки, заданной при создании списка.
+     * Как и sort, не выполняется, если список уже отсортирован этим компаратором
+     *
+     * @param c - реализация Comparator для элементов списка
+     */
+    public void parallelSort(Comparator<? super E> c) {
+        pendingSort = null;
+        if (c != null && c.equals(sortedBy)) {
+            return;
+        }
         modCount++;
-        this.sorter.sort(data, c);
+        invalidateIndex();
+        ListEvents.SortEvent event = new ListEvents.SortEvent();
+        event.begin();
+        ParallelSorter<E> parallelSorter = new ParallelSorter<>();
+        parallelSorter.sort(data, 0, size, c);
+        if (metrics != null) {
+            metrics.sorted();
+        }
+        commitSortEvent(event, parallelSorter, -1);
+        sortedBy = c;
+    }
+
+    /**
+     * Находит элемент, который стоял бы по индексу k после сортировки (quickselect). Элементы переставляются
+     * на месте: слева от k оказываются не большие, справа - не меньшие элементы. Ожидаемая сложность O(n).
+     * Значения null считаются наибольшими
+     *
+     * @param k - индекс искомого элемента в отсортированном порядке
+     * @param c - реализация Comparator для элементов списка
+     * @return : k-й по порядку элемент
+     * @throws IndexOutOfBoundsException - если k отрицательный или выходит за пределы списка
+     */
+    public E select(int k, Comparator<? super E> c) {
+        checkIndex(k);
+        if (!prepareSelection(c)) {
+            return (E) data[k];
+        }
+        new QuickSorter<E>().select(data, 0, size, k, c);
+        return (E) data[k];
+    }
+
+    /**
+     * Сортирует на месте только k наименьших элементов: они оказываются в начале списка в порядке сортировки,
+     * порядок остальных элементов не определен. Выполняется quickselect и сортировка первых k элементов
+     * заданным Sorter, сложность O(n + k log k)
+     *
+     * @param k - количество наименьших элементов
+     * @param c - реализация Comparator для элементов списка
+     * @throws IndexOutOfBoundsException - если k отрицательный или больше размера списка
+     */
+    public void partialSort(int k, Comparator<? super E> c) {
+        Objects.checkFromToIndex(0, k, size);
+        if (!prepareSelection(c) || k == 0) {
+            return;
+        }
+        if (k < size) {
+            new QuickSorter<E>().select(data, 0, size, k - 1, c);
+        }
+        sorter.sort(data, 0, k, c);
+        if (k == size) {
+            sortedBy = c;
+        }
+    }
+
+    /**
+     * Собирает k наименьших элементов в начале списка в порядке сортировки. Элементы просматриваются
+     * один раз по порядку, наименьшие хранятся в ограниченной куче на месте первых k элементов массива,
+     * сложность O(n log k). Порядок остальных элементов не определен. Значения null считаются наибольшими
+     *
+     * @param k - количество наименьших элементов
+     * @param c - реализация Comparator для элементов списка
+     * @throws IndexOutOfBoundsException - если k отрицательный или больше размера списка
+     */
+    public void topK(int k, Comparator<? super E> c) {
+        Objects.checkFromToIndex(0, k, size);
+        if (!prepareSelection(c)) {
+            return;
+        }
+        int n = size - SortSupport.moveNullsToEnd(data, 0, size);
+        int heapSize = Math.min(k, n);
+        if (heapSize == 0) {
+            return;
+        }
+        for (int i = (heapSize >>> 1) - 1; i >= 0; i--) {
+            siftDownMax(i, heapSize, c);
+        }
+        for (int i = heapSize; i < n; i++) {
+            if (c.compare((E) data[i], (E) data[0]) < 0) {
+                SortSupport.swap(data, 0, i);
+                siftDownMax(0, heapSize, c);
+            }
+        }
+        for (int end = heapSize - 1; end > 0; end--) {
+            SortSupport.swap(data, 0, end);
+            siftDownMax(0, end, c);
+        }
     }
 
     /**
@@ -188,9 +425,171 @@ public class CustomArrayList<E> implements ICustomArrayList<E> {
     public void replace(int index, E e) {
         modCount++;
         checkIndex(index);
+        materialize();
+        if (elementIndex != null) {
+            elementIndex.replace(this.data[index], e, index);
+        }
+        if (sortedBy != null && !fitsBetween(index - 1, e, index + 1)) {
+            sortedBy = null;
+        }
         this.data[index] = e;
     }
 
+    /**
+     * Возвращает копию элементов списка
+     *
+     * @return : массив элементов списка
+     */
+    @Override
+    public Object[] toArray() {
+        materialize();
+        return Arrays.copyOf(data, size);
+    }
+
+    /**
+     * Добавляет элементы коллекции в конец списка в порядке их обхода итератором коллекции
+     *
+     * @param c - коллекция добавляемых элементов
+     */
+    @Override
+    public void addAll(Collection<? extends E> c) {
+        insertArray(size, c.toArray());
+    }
+
+    /**
+     * Добавляет элементы массива в конец списка
+     *
+     * @param elements - массив добавляемых элементов
+     */
+    @Override
+    public void addAll(E[] elements) {
+        insertArray(size, elements);
+    }
+
+    /**
+     * Добавляет элементы другого списка в конец списка
+     *
+     * @param list - список добавляемых элементов
+     */
+    @Override
+    public void addAll(ICustomArrayList<? extends E> list) {
+        addAll(size, list);
+    }
+
+    /**
+     * Добавляет элементы коллекции по индексу. Элементы справа от индекса смещаются вправо один раз
+     * на количество добавляемых элементов
+     *
+     * @param index - индекс по которому недходимо произвести вставку
+     * @param c     - коллекция добавляемых элементов
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public void addAll(int index, Collection<? extends E> c) {
+        insertArray(index, c.toArray());
+    }
+
+    /**
+     * Добавляет элементы массива по индексу. Элементы справа от индекса смещаются вправо один раз
+     * на количество добавляемых элементов
+     *
+     * @param index    - индекс по которому недходимо произвести вставку
+     * @param elements - массив добавляемых элементов
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public void addAll(int index, E[] elements) {
+        insertArray(index, elements);
+    }
+
+    /**
+     * Добавляет элементы другого списка по индексу. Элементы справа от индекса смещаются вправо один раз
+     * на количество добавляемых элементов. Элементы другого CustomArrayList копируются напрямую из его массива
+     *
+     * @param index - индекс по которому недходимо произвести вставку
+     * @param list  - список добавляемых элементов
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public void addAll(int index, ICustomArrayList<? extends E> list) {
+        if (list instanceof CustomArrayList<?> other) {
+            other.materialize();
+            insertArray(index, other.data, other.size);
+        } else {
+            insertArray(index, list.toArray());
+        }
+    }
+
+    /**
+     * Удаляет элементы диапазона [from, to). Элементы справа от диапазона смещаются влево один раз
+     *
+     * @param from - индекс первого удаляемого элемента (включительно)
+     * @param to   - индекс последнего удаляемого элемента (исключительно)
+     * @throws IndexOutOfBoundsException - если диапазон выходит за пределы списка
+     */
+    @Override
+    public void removeRange(int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        materialize();
+        modCount++;
+        invalidateIndex();
+        System.arraycopy(this.data, to, this.data, from, size - to);
+        shifted("removeRange", size - to);
+        int newSize = size - (to - from);
+        Arrays.fill(this.data, newSize, size, null);
+        size = newSize;
+        shrinkIfNeeded();
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие условию. Сначала условие проверяется для всех элементов,
+     * и только затем удаляемые элементы исключаются за один проход, поэтому исключение, выброшенное
+     * условием, оставляет список без изменений
+     *
+     * @param filter - условие удаления
+     * @return : true если был удален хотя бы один элемент
+     * @throws ConcurrentModificationException - если список был изменен во время проверки условия
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        materialize();
+        int expectedModCount = modCount;
+        int end = size;
+        int first = 0;
+        while (first < end && !filter.test((E) this.data[first])) {
+            first++;
+        }
+        if (first == end) {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return false;
+        }
+        BitSet removed = new BitSet(end - first);
+        removed.set(0);
+        for (int i = first + 1; i < end; i++) {
+            if (filter.test((E) this.data[i])) {
+                removed.set(i - first);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        int write = first;
+        for (int read = first + 1; read < end; read++) {
+            if (!removed.get(read - first)) {
+                this.data[write++] = this.data[read];
+            }
+        }
+        modCount++;
+        invalidateIndex();
+        Arrays.fill(this.data, write, size, null);
+        size = write;
+        shrinkIfNeeded();
+        return true;
+    }
+
     /**
      * Возвращает размер списка
      * @return : размер списка
@@ -200,18 +599,321 @@ public class CustomArrayList<E> implements ICustomArrayList<E> {
         return size;
     }
 
+    /**
+     * Возвращает текущую ёмкость списка
+     *
+     * @return : длина массива элементов
+     */
+    public int capacity() {
+        return data.length;
+    }
+
+    /**
+     * Расширяет массив так, чтобы в списке без расширений поместилось не менее minCapacity элементов.
+     * Позволяет выполнить одно расширение перед добавлением большого количества элементов
+     *
+     * @param minCapacity - минимальная необходимая ёмкость
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > this.data.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Уменьшает ёмкость списка до его размера
+     */
+    public void trimToSize() {
+        if (size < this.data.length) {
+            modCount++;
+            this.data = Arrays.copyOf(this.data, size);
+            if (metrics != null) {
+                metrics.reallocated(size);
+            }
+        }
+    }
+
+    /**
+     * Включает сбор метрик списка: расширения массива, смещения элементов и сортировки.
+     * Сравнения считаются оберткой над компаратором, перестановки и глубина рекурсии - реализациями Sorter,
+     * поддерживающими SortProbe. Без вызова этого метода метрики не собираются и ничего не стоят.
+     * Возвращаемый объект является MXBean и может быть зарегистрирован в MBeanServer
+     *
+     * @return : метрики списка
+     */
+    public ListMetrics enableMetrics() {
+        if (metrics == null) {
+            metrics = new ListMetricsRecorder(() -> size, () -> data.length);
+        }
+        return metrics;
+    }
+
+    /**
+     * Выключает сбор метрик списка
+     */
+    public void disableMetrics() {
+        metrics = null;
+    }
+
+    /**
+     * Включает хеш-индекс элементов, после чего indexOf, lastIndexOf и contains выполняются за ожидаемое O(1).
+     * Добавление в конец списка, удаление последнего элемента и замена поддерживают индекс за O(1).
+     * Вставка и удаление со смещением элементов, сортировка и пакетное удаление помечают индекс устаревшим,
+     * и он перестраивается за O(n) при следующем поиске.
+     * Элементы не должны изменяться так, чтобы менялся их hashCode
+     */
+    public void enableIndex() {
+        if (elementIndex == null) {
+            elementIndex = new ElementIndex();
+            elementIndex.invalidate();
+        }
+    }
+
+    /**
+     * Выключает хеш-индекс элементов и освобождает его память
+     */
+    public void disableIndex() {
+        elementIndex = null;
+    }
+
+    /**
+     * Возвращает оценку памяти, занимаемой хеш-индексом, без учета самих элементов.
+     * Оценка предполагает 16 байт заголовка массива и 4 байта на ссылку (сжатые указатели)
+     *
+     * @return : размер индекса в байтах или 0, если индекс не включен
+     */
+    public long indexFootprint() {
+        if (elementIndex == null) {
+            return 0;
+        }
+        elementIndex.ensureBuilt(data, size);
+        return elementIndex.footprint();
+    }
+
+    /**
+     * Возвращает индекс первого элемента, равного o
+     *
+     * @param o - искомый элемент
+     * @return : индекс элемента или -1, если элемента нет
+     */
+    @Override
+    public int indexOf(Object o) {
+        materialize();
+        if (elementIndex != null) {
+            elementIndex.ensureBuilt(data, size);
+            return elementIndex.first(o);
+        }
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(o, data[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает индекс последнего элемента, равного o
+     *
+     * @param o - искомый элемент
+     * @return : индекс элемента или -1, если элемента нет
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        materialize();
+        if (elementIndex != null) {
+            elementIndex.ensureBuilt(data, size);
+            return elementIndex.last(o);
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(o, data[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Проверяет наличие элемента, равного o
+     *
+     * @param o - искомый элемент
+     * @return : true, если элемент есть в списке
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Записывает список в поток в компактном двоичном виде. Элементы записываются кодеком в двоичном виде
+     * фиксированного размера. Поток не закрывается
+     *
+     * @param out   - поток для записи
+     * @param codec - преобразование элементов в двоичный вид
+     * @throws IOException - при ошибке записи
+     */
+    public void writeTo(OutputStream out, ElementCodec<? super E> codec) throws IOException {
+        writeTo(Channels.newChannel(out), codec, BinaryEncoding.FIXED);
+    }
+
+    /**
+     * Записывает список в поток в компактном двоичном виде заданным способом. Поток не закрывается
+     *
+     * @param out      - поток для записи
+     * @param codec    - преобразование элементов в двоичный вид
+     * @param encoding - способ записи элементов
+     * @throws IOException              - при ошибке записи
+     * @throws IllegalArgumentException - если разностная запись запрошена для нецелочисленного кодека
+     */
+    public void writeTo(OutputStream out, ElementCodec<? super E> codec, BinaryEncoding encoding) throws IOException {
+        writeTo(Channels.newChannel(out), codec, encoding);
+    }
+
+    /**
+     * Записывает список в канал в компактном двоичном виде. Элементы записываются кодеком в двоичном виде
+     * фиксированного размера. Канал не закрывается
+     *
+     * @param channel - канал для записи
+     * @param codec   - преобразование элементов в двоичный вид
+     * @throws IOException - при ошибке записи
+     */
+    public void writeTo(WritableByteChannel channel, ElementCodec<? super E> codec) throws IOException {
+        writeTo(channel, codec, BinaryEncoding.FIXED);
+    }
+
+    /**
+     * Записывает список в канал в компактном двоичном виде заданным способом. Данные передаются блоками
+     * по 64 КиБ, копия списка не создается. Канал не закрывается
+     *
+     * @param channel  - канал для записи
+     * @param codec    - преобразование элементов в двоичный вид
+     * @param encoding - способ записи элементов
+     * @throws IOException              - при ошибке записи
+     * @throws IllegalArgumentException - если разностная запись запрошена для нецелочисленного кодека
+     */
+    public void writeTo(WritableByteChannel channel, ElementCodec<? super E> codec, BinaryEncoding encoding)
+            throws IOException {
+        materialize();
+        ListSerializer.write(channel, data, size, codec, encoding);
+    }
+
+    /**
+     * Читает список, записанный методом writeTo. Из потока читаются только байты списка, поток не закрывается
+     * и может использоваться для чтения следующих данных
+     *
+     * @param in    - поток для чтения
+     * @param codec - преобразование элементов из двоичного вида
+     * @param <E>   - тип элементов списка
+     * @return : прочитанный список
+     * @throws IOException              - при ошибке чтения или повреждении данных (StreamCorruptedException)
+     * @throws IllegalArgumentException - если размер элемента в потоке не совпадает с размером элемента кодека
+     */
+    public static <E> CustomArrayList<E> readFrom(InputStream in, ElementCodec<E> codec) throws IOException {
+        return readFrom(Channels.newChannel(in), codec);
+    }
+
+    /**
+     * Читает список, записанный методом writeTo. Массив элементов выделяется по количеству элементов
+     * из заголовка, но не более чем на 2^20 элементов заранее: больший список расширяется по мере чтения.
+     * Из канала читаются только байты списка, канал не закрывается
+     *
+     * @param channel - канал для чтения
+     * @param codec   - преобразование элементов из двоичного вида
+     * @param <E>     - тип элементов списка
+     * @return : прочитанный список
+     * @throws IOException              - при ошибке чтения или повреждении данных (StreamCorruptedException)
+     * @throws IllegalArgumentException - если размер элемента в потоке не совпадает с размером элемента кодека
+     */
+    public static <E> CustomArrayList<E> readFrom(ReadableByteChannel channel, ElementCodec<E> codec)
+            throws IOException {
+        return ListSerializer.read(channel, codec);
+    }
+
     /**
      * Предоставляет итератор для списка
      * @return : итератор для списка
      */
     @Override
     public Iterator<E> iterator() {
+        materialize();
         return new Itr();
     }
 
 
+    /**
+     * Выполняет операцию над каждым элементом списка без создания итератора.
+     * Модификация списка проверяется один раз после обхода
+     *
+     * @param action - операция над элементом
+     * @throws ConcurrentModificationException - если список был изменен во время обхода
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        forEachRange(0, size, action);
+    }
+
+    /**
+     * Выполняет операцию над каждым элементом диапазона [from, to) без создания итератора.
+     * Модификация списка проверяется один раз после обхода
+     *
+     * @param from   - индекс первого элемента диапазона (включительно)
+     * @param to     - индекс последнего элемента диапазона (исключительно)
+     * @param action - операция над элементом
+     * @throws IndexOutOfBoundsException       - если диапазон выходит за пределы списка
+     * @throws ConcurrentModificationException - если список был изменен во время обхода
+     */
+    @Override
+    public void forEachRange(int from, int to, Consumer<? super E> action) {
+        Objects.checkFromToIndex(from, to, size);
+        Objects.requireNonNull(action);
+        materialize();
+        int expectedModCount = modCount;
+        Object[] elements = this.data;
+        for (int i = from; i < to; i++) {
+            action.accept((E) elements[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Выполняет операцию над каждым элементом списка и его индексом без создания итератора.
+     * Модификация списка проверяется один раз после обхода
+     *
+     * @param action - операция над индексом и элементом
+     * @throws ConcurrentModificationException - если список был изменен во время обхода
+     */
+    @Override
+    public void forEachIndexed(IntObjConsumer<? super E> action) {
+        Objects.requireNonNull(action);
+        materialize();
+        int expectedModCount = modCount;
+        Object[] elements = this.data;
+        int to = size;
+        for (int i = 0; i < to; i++) {
+            action.accept(i, (E) elements[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Предоставляет Spliterator для списка. Spliterator делит список на равные части, имеет характеристики
+     * ORDERED, SIZED и SUBSIZED и привязывается к размеру списка при первом использовании. Если список был
+     * изменен после привязки, будет выброшено ConcurrentModificationException
+     *
+     * @return : spliterator для списка
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        materialize();
+        return new Spliter(0, -1, 0);
+    }
+
     @Override
     public String toString() {
+        materialize();
         StringBuilder sb = new StringBuilder();
         sb.append("[");
         boolean needComma = false;
@@ -231,38 +933,214 @@ public class CustomArrayList<E> implements ICustomArrayList<E> {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         CustomArrayList<?> that = (CustomArrayList<?>) o;
+        materialize();
+        that.materialize();
         return equalsList(that);
     }
 
     @Override
     public int hashCode() {
+        materialize();
         int result = Objects.hash(sorter, size, modCount);
         result = 31 * result + Arrays.hashCode(data);
         return result;
     }
 
-    private void ensureCapacity(int minCapacity) {
-        if (minCapacity > this.data.length) {
-            grow(minCapacity);
+    private void grow(int minCapacity) {
+        ListEvents.GrowEvent event = new ListEvents.GrowEvent();
+        event.begin();
+        int oldCapacity = this.data.length;
+        int newCapacity = Math.max(growthPolicy.grow(oldCapacity, minCapacity), minCapacity);
+        this.data = Arrays.copyOf(this.data, newCapacity);
+        if (metrics != null) {
+            metrics.reallocated(size);
+        }
+        if (event.shouldCommit()) {
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = newCapacity;
+            event.size = size;
+            event.copied = size;
+            event.commit();
         }
     }
 
-    private void grow(int minCapacity) {
-        int currentCapacity = this.data.length;
-        int newCapacity;
-        if (currentCapacity > 0) {
-            int prefGrowth = currentCapacity >= DEFAULT_CAPACITY ? currentCapacity >> 1 : DEFAULT_CAPACITY - currentCapacity;
-            int minGrowth = minCapacity - currentCapacity;
-            newCapacity = currentCapacity + Math.max(prefGrowth, minGrowth);
-
-            Object[] newData = new Object[newCapacity];
-            System.arraycopy(data, 0, newData, 0, size);
-            this.data = newData;
+    private void shrinkIfNeeded() {
+        int newCapacity = growthPolicy.shrink(this.data.length, size);
+        if (newCapacity < this.data.length) {
+            this.data = Arrays.copyOf(this.data, Math.max(newCapacity, size));
+            if (metrics != null) {
+                metrics.reallocated(size);
+            }
+        }
+    }
+
+    /**
+     * Учитывает смещение count элементов операцией operation в метриках и событии JFR
+     */
+    private void shifted(String operation, int count) {
+        if (metrics != null) {
+            metrics.shifted(count);
+        }
+        if (count >= ListEvents.LARGE_SHIFT_THRESHOLD) {
+            ListEvents.ShiftEvent event = new ListEvents.ShiftEvent();
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.shifted = count;
+                event.size = size;
+                event.commit();
+            }
+        }
+    }
+
+    private void commitSortEvent(ListEvents.SortEvent event, Sorter<E> sorter, long comparisons) {
+        if (event.shouldCommit()) {
+            event.sorter = sorter.getClass().getName();
+            event.size = size;
+            event.comparisons = comparisons;
+            event.commit();
+        }
+    }
+
+    /**
+     * Сортирует список заданным Sorter без проверки отслеживаемого порядка
+     */
+    private void sortNow(Comparator<? super E> c) {
+        modCount++;
+        invalidateIndex();
+        ListEvents.SortEvent event = new ListEvents.SortEvent();
+        event.begin();
+        long comparisons = -1;
+        if (metrics != null) {
+            ListMetricsRecorder.SortRecording<E> recording = metrics.startSort(c);
+            this.sorter.sort(data, 0, size, recording, recording);
+            recording.finish();
+            comparisons = recording.comparisons();
         } else {
-            newCapacity = Math.max(minCapacity, DEFAULT_CAPACITY);
-            this.data = new Object[newCapacity];
+            this.sorter.sort(data, 0, size, c);
+        }
+        commitSortEvent(event, sorter, comparisons);
+        sortedBy = c;
+    }
+
+    private void insertArray(int index, Object[] elements) {
+        insertArray(index, elements, elements.length);
+    }
+
+    private void insertArray(int index, Object[] elements, int length) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+        if (length == 0) {
+            return;
+        }
+        modCount++;
+        if (index < size) {
+            materialize();
+        }
+        if (elements == this.data) {
+            elements = Arrays.copyOf(elements, length);
+        }
+        ensureCapacity(size + length);
+        if (elementIndex != null) {
+            if (index == size) {
+                for (int i = 0; i < length; i++) {
+                    elementIndex.append(elements[i], size + i);
+                }
+            } else {
+                elementIndex.invalidate();
+            }
+        }
+        if (sortedBy != null) {
+            trackInsertedOrder(index, elements, length);
+        }
+        System.arraycopy(this.data, index, this.data, index + length, size - index);
+        shifted("addAll", size - index);
+        System.arraycopy(elements, 0, this.data, index, length);
+        size += length;
+    }
+
+    /**
+     * Просеивание вниз в куче с наибольшим элементом в корне на диапазоне [0, n) массива
+     */
+    private void siftDownMax(int i, int n, Comparator<? super E> c) {
+        E current = (E) data[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) {
+                break;
+            }
+            if (child + 1 < n && c.compare((E) data[child], (E) data[child + 1]) < 0) {
+                child++;
+            }
+            if (c.compare(current, (E) data[child]) >= 0) {
+                break;
+            }
+            data[i] = data[child];
+            i = child;
         }
+        data[i] = current;
+    }
 
+    /**
+     * Готовит список к частичной сортировке: отложенная сортировка отменяется, так как частичная ее заменяет.
+     * Возвращает false, если список уже отсортирован компаратором c и переставлять элементы не нужно
+     */
+    private boolean prepareSelection(Comparator<? super E> c) {
+        pendingSort = null;
+        if (c != null && c.equals(sortedBy)) {
+            return false;
+        }
+        modCount++;
+        invalidateIndex();
+        sortedBy = null;
+        return true;
+    }
+
+    /**
+     * Выполняет отложенную сортировку, если она была запрошена lazySort
+     */
+    private void materialize() {
+        Comparator<? super E> c = pendingSort;
+        if (c != null) {
+            pendingSort = null;
+            sortNow(c);
+        }
+    }
+
+    /**
+     * Проверяет порядок пары соседних элементов по компаратору sortedBy, считая null наибольшим значением
+     */
+    private boolean inOrder(E a, E b) {
+        return b == null || a != null && sortedBy.compare(a, b) <= 0;
+    }
+
+    /**
+     * Сбрасывает sortedBy, если вставка length элементов по индексу index нарушает порядок
+     */
+    private void trackInsertedOrder(int index, Object[] elements, int length) {
+        if (!fitsBetween(index - 1, (E) elements[0], size) || !fitsBetween(-1, (E) elements[length - 1], index)) {
+            sortedBy = null;
+            return;
+        }
+        for (int i = 1; i < length; i++) {
+            if (!inOrder((E) elements[i - 1], (E) elements[i])) {
+                sortedBy = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Проверяет, что e можно разместить между элементами с индексами before и after без нарушения порядка sortedBy
+     */
+    private boolean fitsBetween(int before, E e, int after) {
+        return (before < 0 || inOrder((E) data[before], e)) && (after >= size || inOrder(e, (E) data[after]));
+    }
+
+    private void invalidateIndex() {
+        if (elementIndex != null) {
+            elementIndex.invalidate();
+        }
     }
 
     private void checkIndex(int index) {
@@ -314,5 +1192,78 @@ public class CustomArrayList<E> implements ICustomArrayList<E> {
                 throw new ConcurrentModificationException();
         }
     }
-}
 
+    private class Spliter implements Spliterator<E> {
+        int index;            // index of next element to return
+        int fence;            // -1 until used; then one past last index
+        int expectedModCount; // initialized when fence set
+
+        Spliter(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            int hi = fence;
+            if (hi < 0) {
+                expectedModCount = modCount;
+                hi = fence = size;
+            }
+            return hi;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            return lo >= mid ? null : new Spliter(lo, index = mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            int i = index;
+            if (i < hi) {
+                index = i + 1;
+                action.accept((E) data[i]);
+                checkModification();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            int i = index;
+            Object[] elements = data;
+            if (hi > elements.length) {
+                throw new ConcurrentModificationException();
+            }
+            index = hi;
+            for (; i < hi; i++) {
+                action.accept((E) elements[i]);
+            }
+            checkModification();
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        void checkModification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+}
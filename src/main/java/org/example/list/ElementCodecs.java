@@ -0,0 +1,117 @@
+package org.example.list;
+
+import org.example.list.api.ElementCodec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Стандартные реализации ElementCodec для упакованных примитивов. Значение null не поддерживается,
+ * попытка записать его приводит к NullPointerException. Кодеки Integer и Long являются целочисленными.
+ */
+public final class ElementCodecs {
+
+    private static final ElementCodec<Integer> INT = new ElementCodec<>() {
+        @Override
+        public int size() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void encode(Integer e, ByteBuffer buffer, int offset) {
+            buffer.putInt(offset, e);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+
+        @Override
+        public boolean isIntegral() {
+            return true;
+        }
+
+        @Override
+        public long toLong(Integer e) {
+            return e;
+        }
+
+        @Override
+        public Integer fromLong(long value) {
+            return (int) value;
+        }
+    };
+
+    private static final ElementCodec<Long> LONG = new ElementCodec<>() {
+        @Override
+        public int size() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(Long e, ByteBuffer buffer, int offset) {
+            buffer.putLong(offset, e);
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+
+        @Override
+        public boolean isIntegral() {
+            return true;
+        }
+
+        @Override
+        public long toLong(Long e) {
+            return e;
+        }
+
+        @Override
+        public Long fromLong(long value) {
+            return value;
+        }
+    };
+
+    private static final ElementCodec<Double> DOUBLE = new ElementCodec<>() {
+        @Override
+        public int size() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void encode(Double e, ByteBuffer buffer, int offset) {
+            buffer.putDouble(offset, e);
+        }
+
+        @Override
+        public Double decode(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+    };
+
+    private ElementCodecs() {
+    }
+
+    /**
+     * @return : кодек Integer размером 4 байта
+     */
+    public static ElementCodec<Integer> ofInt() {
+        return INT;
+    }
+
+    /**
+     * @return : кодек Long размером 8 байт
+     */
+    public static ElementCodec<Long> ofLong() {
+        return LONG;
+    }
+
+    /**
+     * @return : кодек Double размером 8 байт
+     */
+    public static ElementCodec<Double> ofDouble() {
+        return DOUBLE;
+    }
+}
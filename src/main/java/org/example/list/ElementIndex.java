@@ -0,0 +1,252 @@
+package org.example.list;
+
+/**
+ * Хеш-индекс элементов списка: для каждого различного элемента хранятся индексы его первого и последнего
+ * вхождения. Таблица с открытой адресацией и линейным пробированием, ключи и индексы хранятся
+ * в параллельных массивах без объектов-записей.
+ * Добавление в конец списка обновляет индекс за O(1). Операции, смещающие индексы, помечают индекс
+ * устаревшим, и он перестраивается за O(n) при следующем поиске.
+ * Элементы сравниваются equals и hashCode, поэтому элементы списка не должны изменяться так, чтобы
+ * менялся их hashCode.
+ */
+final class ElementIndex {
+
+    /**
+     * Ключ, которым в таблице хранится значение null
+     */
+    private static final Object NULL_KEY = new Object();
+
+    private static final int MIN_TABLE_LENGTH = 16;
+
+    /**
+     * Оценка размера заголовка массива в байтах
+     */
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    /**
+     * Оценка размера ссылки в байтах (сжатые указатели)
+     */
+    private static final int REFERENCE_BYTES = 4;
+
+    private Object[] keys;
+
+    private int[] first;
+
+    private int[] last;
+
+    /**
+     * Количество различных элементов в таблице
+     */
+    private int count;
+
+    /**
+     * Индекс не соответствует списку и должен быть перестроен
+     */
+    private boolean stale;
+
+    ElementIndex() {
+        allocate(MIN_TABLE_LENGTH);
+    }
+
+    /**
+     * Помечает индекс устаревшим
+     */
+    void invalidate() {
+        stale = true;
+    }
+
+    /**
+     * Перестраивает индекс по первым size элементам массива, если он устарел
+     */
+    void ensureBuilt(Object[] data, int size) {
+        if (!stale) {
+            return;
+        }
+        allocate(tableLengthFor(size));
+        stale = false;
+        for (int i = 0; i < size; i++) {
+            append(data[i], i);
+        }
+    }
+
+    /**
+     * Учитывает элемент, добавленный в конец списка по индексу index
+     */
+    void append(Object e, int index) {
+        if (stale) {
+            return;
+        }
+        Object key = e == null ? NULL_KEY : e;
+        int slot = find(key);
+        if (keys[slot] != null) {
+            last[slot] = index;
+            return;
+        }
+        keys[slot] = key;
+        first[slot] = index;
+        last[slot] = index;
+        if (++count > keys.length >> 1) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * Учитывает удаление элемента e с последней позиции списка index
+     */
+    void removeLast(Object e, int index) {
+        if (stale) {
+            return;
+        }
+        int slot = find(e == null ? NULL_KEY : e);
+        if (first[slot] == index) {
+            delete(slot);
+        } else {
+            stale = true;
+        }
+    }
+
+    /**
+     * Учитывает замену элемента oldElement на newElement по индексу index
+     */
+    void replace(Object oldElement, Object newElement, int index) {
+        if (stale) {
+            return;
+        }
+        int slot = find(oldElement == null ? NULL_KEY : oldElement);
+        if (first[slot] == index && last[slot] == index) {
+            delete(slot);
+        } else if (first[slot] == index || last[slot] == index) {
+            stale = true;
+            return;
+        }
+        Object key = newElement == null ? NULL_KEY : newElement;
+        slot = find(key);
+        if (keys[slot] == null) {
+            keys[slot] = key;
+            first[slot] = index;
+            last[slot] = index;
+            if (++count > keys.length >> 1) {
+                rehash(keys.length << 1);
+            }
+        } else {
+            first[slot] = Math.min(first[slot], index);
+            last[slot] = Math.max(last[slot], index);
+        }
+    }
+
+    /**
+     * Очищает индекс для пустого списка
+     */
+    void clear() {
+        allocate(MIN_TABLE_LENGTH);
+        stale = false;
+    }
+
+    /**
+     * @return : индекс первого вхождения o или -1
+     */
+    int first(Object o) {
+        int slot = find(o == null ? NULL_KEY : o);
+        return keys[slot] == null ? -1 : first[slot];
+    }
+
+    /**
+     * @return : индекс последнего вхождения o или -1
+     */
+    int last(Object o) {
+        int slot = find(o == null ? NULL_KEY : o);
+        return keys[slot] == null ? -1 : last[slot];
+    }
+
+    /**
+     * @return : количество различных элементов в индексе
+     */
+    int distinctCount() {
+        return count;
+    }
+
+    /**
+     * Оценивает объем памяти таблицы индекса в байтах без учета самих элементов
+     *
+     * @return : размер массивов индекса в байтах
+     */
+    long footprint() {
+        long length = keys.length;
+        return 3L * ARRAY_HEADER_BYTES + length * REFERENCE_BYTES + 2 * length * Integer.BYTES;
+    }
+
+    /**
+     * Возвращает позицию ключа или первую пустую позицию его цепочки пробирования
+     */
+    private int find(Object key) {
+        int mask = keys.length - 1;
+        int slot = spread(key.hashCode()) & mask;
+        while (keys[slot] != null && !keys[slot].equals(key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Удаляет ключ со сдвигом следующих ключей цепочки назад, чтобы не оставлять пометок удаления
+     */
+    private void delete(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != null) {
+            int home = spread(keys[next].hashCode()) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                first[hole] = first[next];
+                last[hole] = last[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = null;
+        count--;
+    }
+
+    private void rehash(int length) {
+        Object[] oldKeys = keys;
+        int[] oldFirst = first;
+        int[] oldLast = last;
+        allocate(length);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                first[slot] = oldFirst[i];
+                last[slot] = oldLast[i];
+                count++;
+            }
+        }
+    }
+
+    private void allocate(int length) {
+        keys = new Object[length];
+        first = new int[length];
+        last = new int[length];
+        count = 0;
+    }
+
+    private static int tableLengthFor(int size) {
+        int length = MIN_TABLE_LENGTH;
+        while (length >> 1 < size && length < 1 << 30) {
+            length <<= 1;
+        }
+        return length;
+    }
+
+    private static int spread(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public String toString() {
+        return "ElementIndex{distinct=" + count + ", table=" + keys.length + ", bytes=" + footprint()
+                + (stale ? ", stale" : "") + "}";
+    }
+}
@@ -0,0 +1,322 @@
+package org.example.list;
+
+import org.example.list.api.ICustomArrayList;
+import org.example.list.api.Sorter;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Реализация ICustomArrayList интерфейса на основе буфера с разрывом (gap buffer).
+ * Свободная ёмкость массива хранится не в конце, а в виде разрыва в позиции последнего изменения.
+ * Вставка и удаление перемещают разрыв к индексу операции, копируя только элементы между старой и новой
+ * позицией разрыва, поэтому серия изменений рядом с одной позицией выполняется за амортизированное O(1).
+ * Доступ по индексу остается O(1): индексы правее разрыва смещаются на его длину.
+ * Перед сортировкой разрыв перемещается в конец массива, после чего элементы сортируются заданным Sorter.
+ * Реализация не синхронизирована. Итератор выбрасывает ConcurrentModificationException, если список
+ * был изменен в процессе итерирования.
+ *
+ * @param <E> - тип элементов списка
+ * @author : Kiryl Staravoitau
+ */
+public class GapBufferCustomArrayList<E> implements ICustomArrayList<E> {
+
+    /**
+     * Начальная емкость списка по умолчанию
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Реализация сортировки
+     */
+    private final Sorter<E> sorter;
+
+    /**
+     * Элементы списка и разрыв [gapStart, gapEnd)
+     */
+    private Object[] data;
+
+    /**
+     * Индекс первой свободной ячейки разрыва
+     */
+    private int gapStart;
+
+    /**
+     * Индекс первого элемента после разрыва
+     */
+    private int gapEnd;
+
+    /**
+     * Счетчик модификаций. Необходим для отслеживания изменений списка при итерации
+     */
+    private int modCount;
+
+    /**
+     * Создает пустой список с желаемой начальной емкостью и реализацией сортировки
+     *
+     * @param capacity - начальная емкость списка
+     * @param sorter   - реализация сортировки
+     * @throws IllegalArgumentException - если передано отрицательное значение емкости
+     */
+    public GapBufferCustomArrayList(int capacity, Sorter<E> sorter) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+        }
+        this.data = new Object[capacity];
+        this.gapEnd = capacity;
+        this.sorter = sorter;
+    }
+
+    /**
+     * Создает пустой список с желаемой начальной емкостью
+     *
+     * @param capacity - начальная емкость списка
+     * @throws IllegalArgumentException - если передано отрицательное значение емкости
+     */
+    public GapBufferCustomArrayList(int capacity) {
+        this(capacity, new IntroSorter<>());
+    }
+
+    /**
+     * Создает пустой список с начальной емкостью 10 и желаемой реализацией сортировки
+     *
+     * @param sorter - реализация сортировки
+     */
+    public GapBufferCustomArrayList(Sorter<E> sorter) {
+        this(DEFAULT_CAPACITY, sorter);
+    }
+
+    /**
+     * Создает пустой список с начальной емкостью 10
+     */
+    public GapBufferCustomArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Добавляет элемент в конец списка. Если разрыв уже находится в конце, операция выполняется за O(1)
+     *
+     * @param e - вставляемый элемент
+     */
+    @Override
+    public void add(E e) {
+        add(size(), e);
+    }
+
+    /**
+     * Добавляет элемент по индексу. Разрыв перемещается к индексу вставки
+     *
+     * @param index - индекс по которому недходимо произвести вставку
+     * @param e     - вставляемый элемент
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public void add(int index, E e) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+        modCount++;
+        moveGap(index);
+        if (gapStart == gapEnd) {
+            grow(data.length + 1);
+        }
+        data[gapStart++] = e;
+    }
+
+    /**
+     * Получает элемент по индексу
+     *
+     * @param index - индексы получаемого элемента
+     * @return : элемент по искомому индексу
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        return (E) data[physicalIndex(index)];
+    }
+
+    /**
+     * Удаляет элемент спика по индексу. Разрыв перемещается к индексу удаления и поглощает элемент
+     *
+     * @param index - индекс удаляемго элемента
+     * @return - удаленный элемент
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, size());
+        modCount++;
+        moveGap(index);
+        E e = (E) data[gapEnd];
+        data[gapEnd++] = null;
+        return e;
+    }
+
+    /**
+     * Удаляет элементы в диапазоне [from, to). Разрыв перемещается к from и поглощает удаляемые элементы
+     *
+     * @param from - индекс первого удаляемого элемента включительно
+     * @param to   - индекс последнего удаляемого элемента исключительно
+     * @throws IndexOutOfBoundsException - если диапазон выходит за пределы списка или from больше to
+     */
+    @Override
+    public void removeRange(int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        modCount++;
+        moveGap(from);
+        int newGapEnd = gapEnd + (to - from);
+        Arrays.fill(data, gapEnd, newGapEnd, null);
+        gapEnd = newGapEnd;
+    }
+
+    /**
+     * Очищает список
+     */
+    @Override
+    public void clear() {
+        modCount++;
+        Arrays.fill(data, 0, gapStart, null);
+        Arrays.fill(data, gapEnd, data.length, null);
+        gapStart = 0;
+        gapEnd = data.length;
+    }
+
+    /**
+     * Сортирует список в соответсвии с заданным компоратором. Перед сортировкой разрыв перемещается в конец
+     *
+     * @param c - реализация Comparator для элементов списка
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        modCount++;
+        int size = size();
+        moveGap(size);
+        sorter.sort(data, 0, size, c);
+    }
+
+    /**
+     * Заменяет елемент списка по индексу. Разрыв не перемещается
+     *
+     * @param index - индекс по которому проводится замена
+     * @param e     - элемент на который нужно заменить
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public void replace(int index, E e) {
+        Objects.checkIndex(index, size());
+        modCount++;
+        data[physicalIndex(index)] = e;
+    }
+
+    /**
+     * Возвращает размер списка
+     *
+     * @return : размер списка
+     */
+    @Override
+    public int size() {
+        return data.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Возвращает текущую ёмкость списка
+     *
+     * @return : длина массива элементов вместе с разрывом
+     */
+    public int capacity() {
+        return data.length;
+    }
+
+    /**
+     * Возвращает копию элементов списка без разрыва
+     *
+     * @return : массив элементов списка
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] elements = new Object[size()];
+        System.arraycopy(data, 0, elements, 0, gapStart);
+        System.arraycopy(data, gapEnd, elements, gapStart, data.length - gapEnd);
+        return elements;
+    }
+
+    /**
+     * Предоставляет итератор для списка
+     *
+     * @return : итератор для списка
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private int physicalIndex(int index) {
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    /**
+     * Перемещает разрыв так, чтобы он начинался с логического индекса position.
+     * Освободившиеся ячейки разрыва обнуляются, чтобы не удерживать удаленные элементы
+     */
+    private void moveGap(int position) {
+        if (position < gapStart) {
+            int count = gapStart - position;
+            int newGapEnd = gapEnd - count;
+            System.arraycopy(data, position, data, newGapEnd, count);
+            Arrays.fill(data, position, Math.min(gapStart, newGapEnd), null);
+            gapStart = position;
+            gapEnd = newGapEnd;
+        } else if (position > gapStart) {
+            int count = position - gapStart;
+            int newGapEnd = gapEnd + count;
+            System.arraycopy(data, gapEnd, data, gapStart, count);
+            Arrays.fill(data, Math.max(gapEnd, position), newGapEnd, null);
+            gapStart = position;
+            gapEnd = newGapEnd;
+        }
+    }
+
+    /**
+     * Расширяет массив, сохраняя положение разрыва. Элементы после разрыва переносятся в конец нового массива
+     */
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(GrowthPolicies.oneAndHalf().grow(data.length, minCapacity), minCapacity);
+        Object[] newData = new Object[newCapacity];
+        int tail = data.length - gapEnd;
+        System.arraycopy(data, 0, newData, 0, gapStart);
+        System.arraycopy(data, gapEnd, newData, newCapacity - tail, tail);
+        data = newData;
+        gapEnd = newCapacity - tail;
+    }
+
+    private class Itr implements Iterator<E> {
+        int cursor;       // index of next element to return
+        int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size();
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (cursor >= size()) {
+                throw new NoSuchElementException();
+            }
+            return (E) data[physicalIndex(cursor++)];
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.list;
+
+import org.example.list.api.GrowthPolicy;
+
+import java.util.Objects;
+
+/**
+ * Стандартные политики изменения ёмкости списка
+ */
+public final class GrowthPolicies {
+
+    /**
+     * Максимальная длина массива, которую можно безопасно запросить у виртуальной машины
+     */
+    static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    /**
+     * Минимальная ёмкость, до которой расширяется пустой массив
+     */
+    private static final int MIN_GROWTH_CAPACITY = 10;
+
+    private static final GrowthPolicy ONE_AND_HALF = (currentCapacity, minCapacity) -> {
+        int prefGrowth = currentCapacity >= MIN_GROWTH_CAPACITY ? currentCapacity >> 1 : MIN_GROWTH_CAPACITY - currentCapacity;
+        return newLength(currentCapacity, minCapacity, prefGrowth);
+    };
+
+    private static final GrowthPolicy DOUBLING = (currentCapacity, minCapacity) ->
+            newLength(currentCapacity, minCapacity, Math.max(currentCapacity, MIN_GROWTH_CAPACITY));
+
+    private GrowthPolicies() {
+    }
+
+    /**
+     * Политика по умолчанию: расширение в полтора раза, но не менее чем до 10 элементов
+     *
+     * @return : политика расширения в полтора раза
+     */
+    public static GrowthPolicy oneAndHalf() {
+        return ONE_AND_HALF;
+    }
+
+    /**
+     * Расширение в два раза, но не менее чем до 10 элементов
+     *
+     * @return : политика удвоения ёмкости
+     */
+    public static GrowthPolicy doubling() {
+        return DOUBLING;
+    }
+
+    /**
+     * Расширение на фиксированное количество элементов
+     *
+     * @param increment - количество элементов, на которое расширяется массив
+     * @return : политика расширения на фиксированное количество элементов
+     * @throws IllegalArgumentException - если increment не положительный
+     */
+    public static GrowthPolicy fixedIncrement(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Illegal increment: " + increment);
+        }
+        return (currentCapacity, minCapacity) -> newLength(currentCapacity, minCapacity, increment);
+    }
+
+    /**
+     * Ограничивает прирост ёмкости базовой политики за одно расширение. Полезно для очень больших списков,
+     * где расширение в полтора раза резервирует слишком много неиспользуемой памяти
+     *
+     * @param policy       - базовая политика
+     * @param maxIncrement - максимальный прирост ёмкости за одно расширение
+     * @return : политика с ограниченным приростом
+     * @throws IllegalArgumentException - если maxIncrement не положительный
+     */
+    public static GrowthPolicy capped(GrowthPolicy policy, int maxIncrement) {
+        Objects.requireNonNull(policy);
+        if (maxIncrement <= 0) {
+            throw new IllegalArgumentException("Illegal max increment: " + maxIncrement);
+        }
+        return new GrowthPolicy() {
+            @Override
+            public int grow(int currentCapacity, int minCapacity) {
+                int capacity = policy.grow(currentCapacity, minCapacity);
+                long limit = Math.max((long) currentCapacity + maxIncrement, minCapacity);
+                return (int) Math.min(capacity, limit);
+            }
+
+            @Override
+            public int shrink(int currentCapacity, int size) {
+                return policy.shrink(currentCapacity, size);
+            }
+        };
+    }
+
+    /**
+     * Добавляет к базовой политике уменьшение ёмкости с гистерезисом. Когда после удаления элементов список
+     * занимает не более четверти массива, массив уменьшается до удвоенного размера списка, но не менее
+     * minCapacity. Запас в два раза исключает чередование расширений и уменьшений при колебаниях размера
+     *
+     * @param policy      - базовая политика
+     * @param minCapacity - ёмкость, меньше которой массив не уменьшается
+     * @return : политика с уменьшением ёмкости
+     * @throws IllegalArgumentException - если minCapacity отрицательная
+     */
+    public static GrowthPolicy shrinking(GrowthPolicy policy, int minCapacity) {
+        Objects.requireNonNull(policy);
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + minCapacity);
+        }
+        return new GrowthPolicy() {
+            @Override
+            public int grow(int currentCapacity, int minimum) {
+                return policy.grow(currentCapacity, minimum);
+            }
+
+            @Override
+            public int shrink(int currentCapacity, int size) {
+                if (currentCapacity <= minCapacity || size > currentCapacity >> 2) {
+                    return currentCapacity;
+                }
+                return (int) Math.max(minCapacity, Math.min((long) size << 1, currentCapacity));
+            }
+        };
+    }
+
+    /**
+     * Вычисляет новую длину массива с учетом предпочтительного прироста и максимальной длины массива
+     *
+     * @throws OutOfMemoryError - если необходимая ёмкость превышает максимальную длину массива
+     */
+    static int newLength(int currentCapacity, int minCapacity, int prefGrowth) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_LENGTH) {
+            throw new OutOfMemoryError("Required array length " + Integer.toUnsignedString(minCapacity) + " is too large");
+        }
+        long preferred = (long) currentCapacity + prefGrowth;
+        return (int) Math.max(minCapacity, Math.min(preferred, MAX_ARRAY_LENGTH));
+    }
+}
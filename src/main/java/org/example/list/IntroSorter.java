@@ -0,0 +1,140 @@
+package org.example.list;
+
+import org.example.list.api.SortProbe;
+import org.example.list.api.Sorter;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Реализация интерфейса Sorter алгоритмом интроспективной сортировки.
+ * Диапазон разбивается на три части (меньше, равные и больше опорного элемента), поэтому большое количество
+ * одинаковых ключей не приводит к квадратичной сложности. Небольшие диапазоны досортировываются вставками,
+ * а при превышении допустимой глубины рекурсии диапазон сортируется пирамидальной сортировкой.
+ * Сложность в худшем случае O(n log n), глубина стека O(log n).
+ * Сортировка не устойчива.
+ *
+ * @param <E> - тип элементов сортировки
+ */
+public class IntroSorter<E> implements Sorter<E> {
+
+    /**
+     * Размер диапазона, начиная с которого используется сортировка вставками
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Сортирует диапазон [from, to) массива объектов в соотвествии с переданным компаратором.
+     * В случает если в диапазоне храняться null, они будут смещены до конца диапазона вправо
+     *
+     * @param data       - массив для сортировки
+     * @param from       - индекс первого элемента диапазона (включительно)
+     * @param to         - индекс последнего элемента диапазона (исключительно)
+     * @param comparator - реализация Comparator для сортируемых объектов
+     * @throws IndexOutOfBoundsException - если диапазон выходит за пределы массива
+     */
+    @Override
+    public void sort(Object[] data, int from, int to, Comparator<? super E> comparator) {
+        sort(data, from, to, comparator, SortProbe.NOOP);
+    }
+
+    /**
+     * Сортирует диапазон [from, to) массива, сообщая о перестановках и глубине рекурсии в probe.
+     * Сдвиги элементов при сортировке вставками перестановками не считаются
+     *
+     * @param data       - массив для сортировки
+     * @param from       - индекс первого элемента диапазона (включительно)
+     * @param to         - индекс последнего элемента диапазона (исключительно)
+     * @param comparator - реализация Comparator для сортируемых объектов
+     * @param probe      - получатель сведений о ходе сортировки
+     * @throws IndexOutOfBoundsException - если диапазон выходит за пределы массива
+     */
+    @Override
+    public void sort(Object[] data, int from, int to, Comparator<? super E> comparator, SortProbe probe) {
+        Objects.checkFromToIndex(from, to, data.length);
+        int high = to - SortSupport.moveNullsToEnd(data, from, to);
+        int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(high - from));
+        introSort(data, from, high, depthLimit, comparator, probe, 1);
+    }
+
+    private void introSort(Object[] data, int low, int high, int depthLimit, Comparator<? super E> comparator,
+                           SortProbe probe, int depth) {
+        probe.depth(depth);
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(data, low, high, comparator, probe);
+                return;
+            }
+            E pivot = (E) data[StandardPivotStrategy.NINTHER.pivotIndex(data, low, high - 1, comparator)];
+
+            int lt = low;
+            int gt = high - 1;
+            int i = low;
+            while (i <= gt) {
+                int cmp = comparator.compare((E) data[i], pivot);
+                if (cmp < 0) {
+                    probe.swap();
+                    SortSupport.swap(data, lt++, i++);
+                } else if (cmp > 0) {
+                    probe.swap();
+                    SortSupport.swap(data, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            // рекурсия только для меньшей части, большая обрабатывается в цикле
+            if (lt - low < high - gt - 1) {
+                introSort(data, low, lt, depthLimit, comparator, probe, depth + 1);
+                low = gt + 1;
+            } else {
+                introSort(data, gt + 1, high, depthLimit, comparator, probe, depth + 1);
+                high = lt;
+            }
+        }
+        insertionSort(data, low, high, comparator);
+    }
+
+    private void insertionSort(Object[] data, int low, int high, Comparator<? super E> comparator) {
+        for (int i = low + 1; i < high; i++) {
+            E current = (E) data[i];
+            int j = i - 1;
+            while (j >= low && comparator.compare((E) data[j], current) > 0) {
+                data[j + 1] = data[j];
+                j--;
+            }
+            data[j + 1] = current;
+        }
+    }
+
+    private void heapSort(Object[] data, int low, int high, Comparator<? super E> comparator, SortProbe probe) {
+        int n = high - low;
+        for (int i = (n >>> 1) - 1; i >= 0; i--) {
+            siftDown(data, low, i, n, comparator);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            probe.swap();
+            SortSupport.swap(data, low, low + end);
+            siftDown(data, low, 0, end, comparator);
+        }
+    }
+
+    private void siftDown(Object[] data, int base, int i, int n, Comparator<? super E> comparator) {
+        E current = (E) data[base + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) {
+                break;
+            }
+            if (child + 1 < n && comparator.compare((E) data[base + child], (E) data[base + child + 1]) < 0) {
+                child++;
+            }
+            if (comparator.compare(current, (E) data[base + child]) >= 0) {
+                break;
+            }
+            data[base + i] = data[base + child];
+            i = child;
+        }
+        data[base + i] = current;
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.list;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * События JFR списков. События создаются на каждой операции, но заполняются и записываются только
+ * при включенной записи JFR (shouldCommit), а без записи JIT-компилятор удаляет их создание.
+ */
+final class ListEvents {
+
+    /**
+     * Наименьшее количество смещенных элементов, при котором записывается событие смещения
+     */
+    static final int LARGE_SHIFT_THRESHOLD = 1 << 16;
+
+    private ListEvents() {
+    }
+
+    @Name("org.example.list.Grow")
+    @Label("List Grow")
+    @Category("CustomArrayList")
+    @Description("Reallocation of the list backing array to a larger capacity")
+    static final class GrowEvent extends Event {
+
+        @Label("Old Capacity")
+        int oldCapacity;
+
+        @Label("New Capacity")
+        int newCapacity;
+
+        @Label("Size")
+        int size;
+
+        @Label("Copied Elements")
+        int copied;
+    }
+
+    @Name("org.example.list.Shift")
+    @Label("List Large Shift")
+    @Category("CustomArrayList")
+    @Description("Insert or remove that shifted at least 65536 elements")
+    static final class ShiftEvent extends Event {
+
+        @Label("Operation")
+        String operation;
+
+        @Label("Shifted Elements")
+        int shifted;
+
+        @Label("Size")
+        int size;
+    }
+
+    @Name("org.example.list.Sort")
+    @Label("List Sort")
+    @Category("CustomArrayList")
+    @Description("Sort of the list elements")
+    static final class SortEvent extends Event {
+
+        @Label("Sorter")
+        String sorter;
+
+        @Label("Size")
+        int size;
+
+        @Label("Comparisons")
+        @Description("Number of comparisons, -1 if metrics are not enabled")
+        long comparisons;
+    }
+}
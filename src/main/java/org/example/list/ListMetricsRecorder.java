@@ -0,0 +1,147 @@
+package org.example.list;
+
+import org.example.list.api.ListMetrics;
+import org.example.list.api.SortProbe;
+
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Реализация ListMetrics на счетчиках LongAdder. Список обновляет счетчики из своего потока,
+ * а читать их можно из любого потока, в том числе через JMX.
+ */
+final class ListMetricsRecorder implements ListMetrics {
+
+    private final LongAdder reallocations = new LongAdder();
+    private final LongAdder copiedOnReallocation = new LongAdder();
+    private final LongAdder shiftedElements = new LongAdder();
+    private final LongAdder sorts = new LongAdder();
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder swaps = new LongAdder();
+    private final AtomicInteger maxRecursionDepth = new AtomicInteger();
+
+    private final IntSupplier size;
+    private final IntSupplier capacity;
+
+    ListMetricsRecorder(IntSupplier size, IntSupplier capacity) {
+        this.size = size;
+        this.capacity = capacity;
+    }
+
+    void reallocated(int copied) {
+        reallocations.increment();
+        copiedOnReallocation.add(copied);
+    }
+
+    void shifted(int count) {
+        shiftedElements.add(count);
+    }
+
+    void sorted() {
+        sorts.increment();
+    }
+
+    /**
+     * Начинает учет одной сортировки. Возвращаемый объект передается в Sorter как компаратор и как SortProbe
+     */
+    <E> SortRecording<E> startSort(Comparator<? super E> comparator) {
+        return new SortRecording<>(comparator);
+    }
+
+    @Override
+    public long getReallocations() {
+        return reallocations.sum();
+    }
+
+    @Override
+    public long getCopiedOnReallocation() {
+        return copiedOnReallocation.sum();
+    }
+
+    @Override
+    public long getShiftedElements() {
+        return shiftedElements.sum();
+    }
+
+    @Override
+    public long getSorts() {
+        return sorts.sum();
+    }
+
+    @Override
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    @Override
+    public long getSwaps() {
+        return swaps.sum();
+    }
+
+    @Override
+    public int getMaxRecursionDepth() {
+        return maxRecursionDepth.get();
+    }
+
+    @Override
+    public int getSize() {
+        return size.getAsInt();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity.getAsInt();
+    }
+
+    @Override
+    public int getWastedCapacity() {
+        return Math.max(0, getCapacity() - getSize());
+    }
+
+    /**
+     * Учет одной сортировки. Сравнения, перестановки и глубина копятся в обычных полях и переносятся
+     * в счетчики один раз методом finish, поэтому объект можно использовать только из одного потока
+     */
+    final class SortRecording<E> implements Comparator<E>, SortProbe {
+
+        private final Comparator<? super E> comparator;
+        private long comparisonCount;
+        private long swapCount;
+        private int maxDepth;
+
+        private SortRecording(Comparator<? super E> comparator) {
+            this.comparator = comparator;
+        }
+
+        @Override
+        public int compare(E a, E b) {
+            comparisonCount++;
+            return comparator.compare(a, b);
+        }
+
+        @Override
+        public void swap() {
+            swapCount++;
+        }
+
+        @Override
+        public void depth(int depth) {
+            if (depth > maxDepth) {
+                maxDepth = depth;
+            }
+        }
+
+        long comparisons() {
+            return comparisonCount;
+        }
+
+        void finish() {
+            sorts.increment();
+            comparisons.add(comparisonCount);
+            swaps.add(swapCount);
+            maxRecursionDepth.accumulateAndGet(maxDepth, Math::max);
+        }
+    }
+}
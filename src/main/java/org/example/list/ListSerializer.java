@@ -0,0 +1,277 @@
+package org.example.list;
+
+import org.example.list.api.ElementCodec;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Двоичная сериализация списков. Формат: заголовок (сигнатура, версия, способ записи, размер элемента,
+ * количество элементов, длина данных в байтах), за которым следуют элементы. Порядок байт - little-endian.
+ * Данные передаются через буфер фиксированного размера, поэтому вторая копия списка в памяти не создается.
+ * При чтении из канала не читается ни одного байта после конца списка, поэтому в тот же поток можно
+ * записывать другие данные.
+ */
+final class ListSerializer {
+
+    /**
+     * Сигнатура потока: "CALS"
+     */
+    private static final int MAGIC = 0x43414C53;
+
+    private static final byte VERSION = 2;
+
+    /**
+     * Размер заголовка: сигнатура, версия, способ записи, размер элемента, количество элементов и длина данных
+     */
+    private static final int HEADER_SIZE = 22;
+
+    /**
+     * Наибольшее количество элементов, под которое массив списка выделяется заранее. Количество из заголовка
+     * не проверить до чтения данных, поэтому больший список расширяется по мере чтения
+     */
+    static final int MAX_PRESIZE = 1 << 20;
+
+    /**
+     * Размер буфера, через который передаются данные
+     */
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * Наибольшая длина varint представления long
+     */
+    private static final int MAX_VARINT_LENGTH = 10;
+
+    private ListSerializer() {
+    }
+
+    /**
+     * Записывает первые size элементов массива в канал
+     */
+    static <E> void write(WritableByteChannel channel, Object[] data, int size,
+                          ElementCodec<? super E> codec, BinaryEncoding encoding) throws IOException {
+        if (encoding == BinaryEncoding.DELTA_VARINT && !codec.isIntegral()) {
+            throw new IllegalArgumentException("Delta encoding requires an integral codec");
+        }
+        int elementSize = codec.size();
+        ByteBuffer buffer = ByteBuffer.allocate(Math.max(CHUNK_SIZE, HEADER_SIZE + elementSize))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC)
+                .put(VERSION)
+                .put((byte) encoding.ordinal())
+                .putInt(elementSize)
+                .putInt(size)
+                .putLong(encoding == BinaryEncoding.FIXED
+                        ? (long) size * elementSize
+                        : deltaLength(data, size, codec));
+        if (encoding == BinaryEncoding.FIXED) {
+            for (int i = 0; i < size; i++) {
+                if (buffer.remaining() < elementSize) {
+                    drain(channel, buffer);
+                }
+                codec.encode((E) data[i], buffer, buffer.position());
+                buffer.position(buffer.position() + elementSize);
+            }
+        } else {
+            long previous = 0;
+            for (int i = 0; i < size; i++) {
+                if (buffer.remaining() < MAX_VARINT_LENGTH) {
+                    drain(channel, buffer);
+                }
+                long value = codec.toLong((E) data[i]);
+                long delta = value - previous;
+                putVarLong(buffer, (delta << 1) ^ (delta >> 63));
+                previous = value;
+            }
+        }
+        drain(channel, buffer);
+    }
+
+    /**
+     * Читает список из канала. Из канала читается ровно заголовок и длина данных из заголовка.
+     * Массив списка выделяется по количеству элементов из заголовка, но не больше MAX_PRESIZE элементов
+     */
+    static <E> CustomArrayList<E> read(ReadableByteChannel channel, ElementCodec<E> codec) throws IOException {
+        Input input = new Input(channel, Math.max(CHUNK_SIZE, HEADER_SIZE + codec.size()));
+        ByteBuffer buffer = input.buffer;
+        input.section(HEADER_SIZE);
+        input.require(HEADER_SIZE);
+        if (buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+            throw new StreamCorruptedException("Not a serialized list or unsupported version");
+        }
+        int encodingOrdinal = buffer.get();
+        if (encodingOrdinal < 0 || encodingOrdinal >= BinaryEncoding.values().length) {
+            throw new StreamCorruptedException("Unknown encoding: " + encodingOrdinal);
+        }
+        BinaryEncoding encoding = BinaryEncoding.values()[encodingOrdinal];
+        int elementSize = buffer.getInt();
+        if (elementSize != codec.size()) {
+            throw new IllegalArgumentException("Element size mismatch: stream " + elementSize
+                    + ", codec " + codec.size());
+        }
+        if (encoding == BinaryEncoding.DELTA_VARINT && !codec.isIntegral()) {
+            throw new IllegalArgumentException("Delta encoding requires an integral codec");
+        }
+        int size = buffer.getInt();
+        if (size < 0) {
+            throw new StreamCorruptedException("Negative element count: " + size);
+        }
+        long length = buffer.getLong();
+        if (encoding == BinaryEncoding.FIXED ? length != (long) size * elementSize : length < size) {
+            throw new StreamCorruptedException("Data length " + length + " does not match element count " + size);
+        }
+
+        input.section(length);
+        CustomArrayList<E> list = new CustomArrayList<>(Math.min(size, MAX_PRESIZE));
+        if (encoding == BinaryEncoding.FIXED) {
+            for (int i = 0; i < size; i++) {
+                input.require(elementSize);
+                list.add(codec.decode(buffer, buffer.position()));
+                buffer.position(buffer.position() + elementSize);
+            }
+        } else {
+            long previous = 0;
+            for (int i = 0; i < size; i++) {
+                input.fill(MAX_VARINT_LENGTH);
+                long zigzag = getVarLong(buffer);
+                previous += (zigzag >>> 1) ^ -(zigzag & 1);
+                list.add(codec.fromLong(previous));
+            }
+        }
+        if (!input.isDrained()) {
+            throw new StreamCorruptedException("Data length does not match encoded elements");
+        }
+        return list;
+    }
+
+    /**
+     * Вычисляет длину разностной записи первых size элементов массива в байтах
+     */
+    private static <E> long deltaLength(Object[] data, int size, ElementCodec<? super E> codec) {
+        long length = 0;
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            long value = codec.toLong((E) data[i]);
+            long delta = value - previous;
+            length += varLongLength((delta << 1) ^ (delta >> 63));
+            previous = value;
+        }
+        return length;
+    }
+
+    /**
+     * Записывает накопленные в буфере данные в канал и подготавливает буфер к дальнейшей записи
+     */
+    private static void drain(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int varLongLength(long value) {
+        return (Long.SIZE - Long.numberOfLeadingZeros(value | 1) + 6) / 7;
+    }
+
+    private static long getVarLong(ByteBuffer buffer) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (!buffer.hasRemaining()) {
+                throw new StreamCorruptedException("Varint crosses the end of data");
+            }
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Malformed varint");
+    }
+
+    /**
+     * Буфер чтения, который читает из канала не больше байт, чем осталось в текущей части потока
+     * (заголовке или данных), чтобы не захватить данные, записанные после списка
+     */
+    private static final class Input {
+
+        private final ReadableByteChannel channel;
+
+        private final ByteBuffer buffer;
+
+        /**
+         * Количество байт текущей части потока, еще не прочитанных из канала
+         */
+        private long unread;
+
+        Input(ReadableByteChannel channel, int capacity) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.flip();
+        }
+
+        /**
+         * Начинает часть потока длиной length байт. Буфер должен быть полностью прочитан
+         */
+        void section(long length) {
+            unread = length;
+        }
+
+        /**
+         * Дочитывает данные из канала, пока в буфере не окажется не менее n байт или не закончится часть потока
+         *
+         * @throws EOFException - если канал закончился раньше части потока
+         */
+        void fill(int n) throws IOException {
+            if (buffer.remaining() >= n || unread == 0) {
+                return;
+            }
+            buffer.compact();
+            try {
+                while (buffer.position() < n && unread > 0) {
+                    buffer.limit((int) Math.min(buffer.capacity(), buffer.position() + unread));
+                    int read = channel.read(buffer);
+                    if (read < 0) {
+                        throw new EOFException("Unexpected end of serialized list");
+                    }
+                    unread -= read;
+                }
+            } finally {
+                buffer.flip();
+            }
+        }
+
+        /**
+         * Дочитывает данные, пока в буфере не окажется не менее n байт
+         *
+         * @throws EOFException             - если канал закончился раньше
+         * @throws StreamCorruptedException - если n байт выходят за пределы части потока
+         */
+        void require(int n) throws IOException {
+            fill(n);
+            if (buffer.remaining() < n) {
+                throw new StreamCorruptedException("Element crosses the end of data");
+            }
+        }
+
+        /**
+         * @return : true, если часть потока прочитана полностью
+         */
+        boolean isDrained() {
+            return unread == 0 && !buffer.hasRemaining();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package org.example.list;
+
+import org.example.list.api.ILongCustomArrayList;
+
+import java.util.Arrays;
+
+/**
+ * Реализация саморасширяемого массива значений long интерфейса ILongCustomArrayList.
+ * Элементы хранятся в массиве long[] без упаковки, поэтому каждый элемент занимает 8 байт вместо ссылки
+ * и отдельного объекта-обертки. Начальная ёмкость задается при создании списка или устанавливается по
+ * умолчанию в размере 10 элементов, при заполнении массив расширяется в полтора раза.
+ * Сортировка выполняется поразрядно (LSD radix sort) за линейное время.
+ * Реализация не синхронизирована.
+ *
+ * @author : Kiryl Staravoitau
+ */
+public class LongCustomArrayList implements ILongCustomArrayList {
+
+    /**
+     * Начальная емкость списка по умолчанию
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Элементы списка
+     */
+    private long[] data;
+
+    /**
+     * Размер списка
+     */
+    private int size;
+
+    /**
+     * Создает пустой список с желаемой начальной емкостью
+     *
+     * @param capacity - начальная емкость списка
+     * @throws IllegalArgumentException - если передано отрицательное значение емкости
+     */
+    public LongCustomArrayList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+        }
+        data = new long[capacity];
+    }
+
+    /**
+     * Создает пустой список с начальной емкостью 10
+     */
+    public LongCustomArrayList() {
+        data = new long[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Добавляет элемент в конец списка
+     *
+     * @param e - вставляемый элемент
+     */
+    @Override
+    public void addLong(long e) {
+        ensureCapacity(size + 1);
+        data[size++] = e;
+    }
+
+    /**
+     * Добавляет элемент по индексу. Элементы справа от индекса смещаются на одну позицию вправо
+     *
+     * @param index - индекс по которому недходимо произвести вставку
+     * @param e     - вставляемый элемент
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public void addLong(int index, long e) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+        ensureCapacity(size + 1);
+        System.arraycopy(data, index, data, index + 1, size - index);
+        data[index] = e;
+        size++;
+    }
+
+    /**
+     * Получает элемент по индексу
+     *
+     * @param index - индексы получаемого элемента
+     * @return : элемент по искомому индексу
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public long getLong(int index) {
+        checkIndex(index);
+        return data[index];
+    }
+
+    /**
+     * Удаляет элемент спика по индексу. Элменты справа от удаляемого смещаются на одну позицию влево
+     *
+     * @param index - индекс удаляемго элемента
+     * @return - удаленный элемент
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public long removeLong(int index) {
+        checkIndex(index);
+        long e = data[index];
+        System.arraycopy(data, index + 1, data, index, size - index - 1);
+        size--;
+        return e;
+    }
+
+    /**
+     * Заменяет елемент списка по индексу
+     *
+     * @param index - индекс по которому проводится замена
+     * @param e     - элемент на который нужно заменить
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public void replaceLong(int index, long e) {
+        checkIndex(index);
+        data[index] = e;
+    }
+
+    /**
+     * Очищает список. Так как элементы не ссылаются на объекты, массив не очищается
+     */
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Сортирует список по возрастанию
+     */
+    @Override
+    public void sort() {
+        RadixSort.sort(data, 0, size);
+    }
+
+    /**
+     * Возвращает размер списка
+     *
+     * @return : размер списка
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает копию элементов списка
+     *
+     * @return : массив элементов списка
+     */
+    @Override
+    public long[] toLongArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(data[i]);
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LongCustomArrayList that = (LongCustomArrayList) o;
+        return Arrays.equals(data, 0, size, that.data, 0, that.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Long.hashCode(data[i]);
+        }
+        return result;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) {
+            grow(minCapacity);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        int currentCapacity = data.length;
+        int prefGrowth = currentCapacity >= DEFAULT_CAPACITY ? currentCapacity >> 1 : DEFAULT_CAPACITY - currentCapacity;
+        int newCapacity = currentCapacity + Math.max(prefGrowth, minCapacity - currentCapacity);
+        data = Arrays.copyOf(data, newCapacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index > size - 1) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package org.example.list;
+
+import org.example.list.api.ElementCodec;
+import org.example.list.api.Sorter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Реализация ICustomArrayList интерфейса, хранящая элементы в файле, отображенном в память
+ * (FileChannel.map). Элементы хранятся в двоичном виде фиксированного размера, преобразование выполняет
+ * ElementCodec. Порядок байт файла - little-endian независимо от платформы.
+ * Файл начинается с заголовка: сигнатура, версия формата, размер элемента и размер списка. Повторное
+ * открытие файла выполняется за O(1): отображается файл и читается заголовок, элементы не копируются.
+ * Изменения элементов попадают в отображение сразу, а размер списка записывается в заголовок только
+ * методами flush и close. До вызова flush сохранность данных на диске не гарантируется.
+ * При расширении файл увеличивается крупными блоками по 1 МиБ (не менее чем в 1.5 раза) и отображается заново.
+ * Максимальный размер файла ограничен размером одного отображения: Integer.MAX_VALUE байт.
+ * По умолчанию список сортируется на месте в отображении без копии элементов в куче.
+ * Реализация не синхронизирована, после close список использовать нельзя.
+ *
+ * @param <E> - тип элементов списка
+ * @author : Kiryl Staravoitau
+ */
+public class MappedCustomArrayList<E> extends AbstractBufferCustomArrayList<E> implements Closeable {
+
+    /**
+     * Сигнатура файла: "CAL1"
+     */
+    private static final int MAGIC = 0x43414C31;
+
+    /**
+     * Версия формата файла
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Размер заголовка в байтах: сигнатура, версия, размер элемента, резерв и размер списка
+     */
+    static final int HEADER_SIZE = 32;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int ELEMENT_SIZE_OFFSET = 8;
+    private static final int SIZE_OFFSET = 16;
+
+    /**
+     * Шаг расширения файла в байтах
+     */
+    static final int GROWTH_CHUNK = 1 << 20;
+
+    private final FileChannel channel;
+
+    /**
+     * Отображение всего файла вместе с заголовком
+     */
+    private MappedByteBuffer mapping;
+
+    private MappedCustomArrayList(ElementCodec<E> codec, Sorter<E> sorter, FileChannel channel,
+                                  MappedByteBuffer mapping, int size) {
+        super(codec, sorter, elements(mapping), size);
+        this.channel = channel;
+        this.mapping = mapping;
+    }
+
+    /**
+     * Открывает список, хранящийся в файле. Если файл не существует или пуст, он создается с пустым списком.
+     * Список сортируется на месте в отображении
+     *
+     * @param path  - путь к файлу
+     * @param codec - преобразование элементов в двоичный вид
+     * @param <E>   - тип элементов списка
+     * @return : список, отображенный на файл
+     * @throws IOException              - если файл не удалось открыть или он не является файлом списка
+     * @throws IllegalArgumentException - если размер элемента в файле не совпадает с размером элемента кодека
+     */
+    public static <E> MappedCustomArrayList<E> open(Path path, ElementCodec<E> codec) throws IOException {
+        return open(path, codec, null);
+    }
+
+    /**
+     * Открывает список, хранящийся в файле, с желаемой реализацией сортировки. Если файл не существует
+     * или пуст, он создается с пустым списком. Сортировка заданным Sorter декодирует все элементы
+     * во временный массив в куче
+     *
+     * @param path   - путь к файлу
+     * @param codec  - преобразование элементов в двоичный вид
+     * @param sorter - реализация сортировки или null для сортировки на месте в отображении
+     * @param <E>    - тип элементов списка
+     * @return : список, отображенный на файл
+     * @throws IOException              - если файл не удалось открыть или он не является файлом списка
+     * @throws IllegalArgumentException - если размер элемента в файле не совпадает с размером элемента кодека
+     */
+    public static <E> MappedCustomArrayList<E> open(Path path, ElementCodec<E> codec, Sorter<E> sorter)
+            throws IOException {
+        int elementSize = codec.size();
+        if (elementSize <= 0) {
+            throw new IllegalArgumentException("Illegal element size: " + elementSize);
+        }
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long length = channel.size();
+            if (length == 0) {
+                MappedByteBuffer mapping = map(channel, HEADER_SIZE + GROWTH_CHUNK);
+                mapping.putInt(MAGIC_OFFSET, MAGIC);
+                mapping.putInt(VERSION_OFFSET, VERSION);
+                mapping.putInt(ELEMENT_SIZE_OFFSET, elementSize);
+                mapping.putLong(SIZE_OFFSET, 0);
+                return new MappedCustomArrayList<>(codec, sorter, channel, mapping, 0);
+            }
+            if (length < HEADER_SIZE || length > Integer.MAX_VALUE) {
+                throw new IOException("Not a list file: " + path);
+            }
+            MappedByteBuffer mapping = map(channel, length);
+            if (mapping.getInt(MAGIC_OFFSET) != MAGIC || mapping.getInt(VERSION_OFFSET) != VERSION) {
+                throw new IOException("Not a list file or unsupported version: " + path);
+            }
+            if (mapping.getInt(ELEMENT_SIZE_OFFSET) != elementSize) {
+                throw new IllegalArgumentException("Element size mismatch: file "
+                        + mapping.getInt(ELEMENT_SIZE_OFFSET) + ", codec " + elementSize);
+            }
+            long size = mapping.getLong(SIZE_OFFSET);
+            if (size < 0 || size > (length - HEADER_SIZE) / elementSize) {
+                throw new IOException("Corrupted list size " + size + ": " + path);
+            }
+            return new MappedCustomArrayList<>(codec, sorter, channel, mapping, (int) size);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Сохраняет элементы и размер списка на диск. Сначала сбрасываются элементы, затем заголовок,
+     * поэтому заголовок никогда не ссылается на несохраненные элементы
+     */
+    public void flush() {
+        mapping.force();
+        mapping.putLong(SIZE_OFFSET, size());
+        mapping.force(0, HEADER_SIZE);
+    }
+
+    /**
+     * Сохраняет список на диск и закрывает файл
+     *
+     * @throws IOException - если файл не удалось закрыть
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel.isOpen()) {
+            flush();
+            channel.close();
+        }
+    }
+
+    @Override
+    ByteBuffer grow(ByteBuffer current, int size, int minCapacity) {
+        long minBytes = HEADER_SIZE + (long) minCapacity * elementSize;
+        if (minBytes > Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("Required capacity " + minCapacity + " exceeds mapping limit");
+        }
+        long length = mapping.capacity();
+        long newLength = Math.max(minBytes, length + (length >> 1));
+        newLength = Math.min((newLength + GROWTH_CHUNK - 1) / GROWTH_CHUNK * GROWTH_CHUNK, Integer.MAX_VALUE);
+        try {
+            mapping = map(channel, newLength);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return elements(mapping);
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long length) throws IOException {
+        MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        mapping.order(ByteOrder.LITTLE_ENDIAN);
+        return mapping;
+    }
+
+    private static ByteBuffer elements(MappedByteBuffer mapping) {
+        return mapping.slice(HEADER_SIZE, mapping.capacity() - HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.list;
+
+import org.example.list.api.ElementCodec;
+import org.example.list.api.Sorter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Реализация ICustomArrayList интерфейса, хранящая элементы вне кучи в прямом (direct) ByteBuffer.
+ * Элементы хранятся в двоичном виде фиксированного размера, преобразование выполняет ElementCodec.
+ * Сборщик мусора видит только сам список и буфер независимо от количества элементов, а get создает
+ * объект элемента при каждом вызове. Память буфера освобождается, когда буфер становится недостижим.
+ * Максимальная ёмкость ограничена размером одного буфера: Integer.MAX_VALUE байт.
+ * По умолчанию сортировка выполняется на месте в буфере (BufferSort): декодируются только сравниваемые
+ * элементы, копия списка в куче не создается. Если задан Sorter, элементы декодируются во временный массив,
+ * сортируются и записываются обратно, поэтому на время такой сортировки все элементы присутствуют в куче.
+ * Реализация не синхронизирована. Итератор выбрасывает ConcurrentModificationException, если список
+ * был изменен в процессе итерирования.
+ *
+ * @param <E> - тип элементов списка
+ * @author : Kiryl Staravoitau
+ */
+public class OffHeapCustomArrayList<E> extends AbstractBufferCustomArrayList<E> {
+
+    /**
+     * Начальная емкость списка по умолчанию
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Создает пустой список с желаемой начальной емкостью, кодеком и реализацией сортировки.
+     * Сортировка заданным Sorter декодирует все элементы во временный массив в куче
+     *
+     * @param capacity - начальная емкость списка
+     * @param codec    - преобразование элементов в двоичный вид
+     * @param sorter   - реализация сортировки или null для сортировки на месте в буфере
+     * @throws IllegalArgumentException - если передано отрицательное значение емкости или емкость не помещается в буфер
+     */
+    public OffHeapCustomArrayList(int capacity, ElementCodec<E> codec, Sorter<E> sorter) {
+        super(codec, sorter, allocate(capacity, Objects.requireNonNull(codec).size()), 0);
+    }
+
+    /**
+     * Создает пустой список с желаемой начальной емкостью и кодеком. Список сортируется на месте в буфере
+     *
+     * @param capacity - начальная емкость списка
+     * @param codec    - преобразование элементов в двоичный вид
+     * @throws IllegalArgumentException - если передано отрицательное значение емкости или емкость не помещается в буфер
+     */
+    public OffHeapCustomArrayList(int capacity, ElementCodec<E> codec) {
+        this(capacity, codec, null);
+    }
+
+    /**
+     * Создает пустой список с начальной емкостью 10 и желаемым кодеком
+     *
+     * @param codec - преобразование элементов в двоичный вид
+     */
+    public OffHeapCustomArrayList(ElementCodec<E> codec) {
+        this(DEFAULT_CAPACITY, codec);
+    }
+
+    @Override
+    ByteBuffer grow(ByteBuffer current, int size, int minCapacity) {
+        int maxCapacity = Integer.MAX_VALUE / elementSize;
+        if (minCapacity > maxCapacity) {
+            throw new OutOfMemoryError("Required capacity " + minCapacity + " exceeds buffer limit");
+        }
+        int capacity = current.capacity() / elementSize;
+        int newCapacity = Math.min(GrowthPolicies.oneAndHalf().grow(capacity, minCapacity), maxCapacity);
+        ByteBuffer newBuffer = allocate(newCapacity, elementSize);
+        newBuffer.put(0, current, 0, size * elementSize);
+        return newBuffer;
+    }
+
+    private static ByteBuffer allocate(int capacity, int elementSize) {
+        if (elementSize <= 0) {
+            throw new IllegalArgumentException("Illegal element size: " + elementSize);
+        }
+        if (capacity < 0 || capacity > Integer.MAX_VALUE / elementSize) {
+            throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+        }
+        return ByteBuffer.allocateDirect(capacity * elementSize).order(ByteOrder.nativeOrder());
+    }
+}
@@ -0,0 +1,226 @@
+package org.example.list;
+
+import org.example.list.api.Sorter;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Реализация интерфейса Sorter параллельной сортировкой слиянием на ForkJoinPool.
+ * Диапазон рекурсивно делится пополам до достижения порога последовательной сортировки, части сортируются
+ * параллельно алгоритмом IntroSorter, после чего сливаются. Слияние также выполняется параллельно: большая
+ * из сливаемых частей делится пополам, а точка деления второй части находится бинарным поиском.
+ * Для слияния выделяется временный буфер размером с сортируемый диапазон.
+ * Сортировка не устойчива.
+ *
+ * @param <E> - тип элементов сортировки
+ */
+public class ParallelSorter<E> implements Sorter<E> {
+
+    /**
+     * Порог последовательной сортировки по умолчанию
+     */
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    /**
+     * Пул потоков, в котором выполняется сортировка
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Размер диапазона, начиная с которого он сортируется и сливается последовательно
+     */
+    private final int sequentialThreshold;
+
+    /**
+     * Сортировка частей диапазона
+     */
+    private final Sorter<E> sequentialSorter = new IntroSorter<>();
+
+    /**
+     * Создает сортировщик с желаемым пулом потоков и порогом последовательной сортировки
+     *
+     * @param pool                - пул потоков
+     * @param sequentialThreshold - размер диапазона, начиная с которого он сортируется последовательно
+     * @throws IllegalArgumentException - если порог меньше 1
+     */
+    public ParallelSorter(ForkJoinPool pool, int sequentialThreshold) {
+        if (sequentialThreshold < 1) {
+            throw new IllegalArgumentException("Illegal sequential threshold: " + sequentialThreshold);
+        }
+        this.pool = Objects.requireNonNull(pool);
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    /**
+     * Создает сортировщик с общим пулом потоков и желаемым порогом последовательной сортировки
+     *
+     * @param sequentialThreshold - размер диапазона, начиная с которого он сортируется последовательно
+     * @throws IllegalArgumentException - если порог меньше 1
+     */
+    public ParallelSorter(int sequentialThreshold) {
+        this(ForkJoinPool.commonPool(), sequentialThreshold);
+    }
+
+    /**
+     * Создает сортировщик с общим пулом потоков и порогом последовательной сортировки по умолчанию
+     */
+    public ParallelSorter() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Сортирует диапазон [from, to) массива объектов в соотвествии с переданным компаратором.
+     * В случает если в диапазоне храняться null, они будут смещены до конца диапазона вправо
+     *
+     * @param data       - массив для сортировки
+     * @param from       - индекс первого элемента диапазона (включительно)
+     * @param to         - индекс последнего элемента диапазона (исключительно)
+     * @param comparator - реализация Comparator для сортируемых объектов
+     * @throws IndexOutOfBoundsException - если диапазон выходит за пределы массива
+     */
+    @Override
+    public void sort(Object[] data, int from, int to, Comparator<? super E> comparator) {
+        Objects.checkFromToIndex(from, to, data.length);
+        int hi = to - SortSupport.moveNullsToEnd(data, from, to);
+        if (hi - from <= sequentialThreshold || pool.getParallelism() == 1) {
+            sequentialSorter.sort(data, from, hi, comparator);
+            return;
+        }
+        Object[] buffer = new Object[hi - from];
+        pool.invoke(new SortTask(data, buffer, from, from, hi, comparator));
+    }
+
+    private int lowerBound(Object[] data, int low, int high, Object key, Comparator<? super E> comparator) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare((E) data[mid], (E) key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(Object[] data, int low, int high, Object key, Comparator<? super E> comparator) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare((E) data[mid], (E) key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Сортирует диапазон [low, high) массива data. Ячейка data[i] соответствует ячейке буфера buffer[i - base]
+     */
+    @SuppressWarnings("serial")
+    private final class SortTask extends RecursiveAction {
+        private final Object[] data;
+        private final Object[] buffer;
+        private final int base;
+        private final int low;
+        private final int high;
+        private final Comparator<? super E> comparator;
+
+        SortTask(Object[] data, Object[] buffer, int base, int low, int high, Comparator<? super E> comparator) {
+            this.data = data;
+            this.buffer = buffer;
+            this.base = base;
+            this.low = low;
+            this.high = high;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low <= sequentialThreshold) {
+                sequentialSorter.sort(data, low, high, comparator);
+                return;
+            }
+            int mid = (low + high) >>> 1;
+            invokeAll(new SortTask(data, buffer, base, low, mid, comparator),
+                    new SortTask(data, buffer, base, mid, high, comparator));
+            if (comparator.compare((E) data[mid - 1], (E) data[mid]) <= 0) {
+                return;
+            }
+            System.arraycopy(data, low, buffer, low - base, high - low);
+            new MergeTask(buffer, data, low - base, mid - base, mid - base, high - base, low, comparator).compute();
+        }
+    }
+
+    /**
+     * Сливает упорядоченные диапазоны [low1, high1) и [low2, high2) массива source в массив target,
+     * начиная с позиции dest. Если одна из частей содержит не более одного элемента, деление не уменьшает
+     * задачу, поэтому такие части сливаются последовательно
+     */
+    @SuppressWarnings("serial")
+    private final class MergeTask extends RecursiveAction {
+        private final Object[] source;
+        private final Object[] target;
+        private final int low1;
+        private final int high1;
+        private final int low2;
+        private final int high2;
+        private final int dest;
+        private final Comparator<? super E> comparator;
+
+        MergeTask(Object[] source, Object[] target, int low1, int high1, int low2, int high2, int dest,
+                  Comparator<? super E> comparator) {
+            this.source = source;
+            this.target = target;
+            this.low1 = low1;
+            this.high1 = high1;
+            this.low2 = low2;
+            this.high2 = high2;
+            this.dest = dest;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = high1 - low1;
+            int length2 = high2 - low2;
+            if (length1 + length2 <= sequentialThreshold || length1 <= 1 || length2 <= 1) {
+                merge();
+                return;
+            }
+            int split1;
+            int split2;
+            if (length1 >= length2) {
+                split1 = (low1 + high1) >>> 1;
+                split2 = lowerBound(source, low2, high2, source[split1], comparator);
+            } else {
+                split2 = (low2 + high2) >>> 1;
+                split1 = upperBound(source, low1, high1, source[split2], comparator);
+            }
+            int splitDest = dest + (split1 - low1) + (split2 - low2);
+            invokeAll(new MergeTask(source, target, low1, split1, low2, split2, dest, comparator),
+                    new MergeTask(source, target, split1, high1, split2, high2, splitDest, comparator));
+        }
+
+        private void merge() {
+            int i = low1;
+            int j = low2;
+            int k = dest;
+            while (i < high1 && j < high2) {
+                if (comparator.compare((E) source[j], (E) source[i]) < 0) {
+                    target[k++] = source[j++];
+                } else {
+                    target[k++] = source[i++];
+                }
+            }
+            if (i < high1) {
+                System.arraycopy(source, i, target, k, high1 - i);
+            } else if (j < high2) {
+                System.arraycopy(source, j, target, k, high2 - j);
+            }
+        }
+    }
+}
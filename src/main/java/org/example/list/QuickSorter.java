@@ -1,49 +1,138 @@
 package org.example.list;
 
+import org.example.list.api.PivotStrategy;
+import org.example.list.api.SortProbe;
 import org.example.list.api.Sorter;
 
 import java.util.Comparator;
-import java.util.Random;
+import java.util.Objects;
 
 /**
  * Реализация интерфейса Sorter алгоритмом быстрой сортировке.
+ * Способ выбора опорного элемента задается стратегией PivotStrategy. По умолчанию опорный элемент выбирается
+ * случайно генератором текущего потока, поэтому одновременная сортировка разных списков не конкурирует
+ * за общее состояние.
  *
  * @param <E> - тип элементов сортировке
  */
 public class QuickSorter<E> implements Sorter<E> {
 
-    private static final Random random = new Random();
+    /**
+     * Стратегия выбора опорного элемента
+     */
+    private final PivotStrategy pivotStrategy;
 
     /**
-     * Сортирует массив объектов в соотвествии с переданным компаратором.
-     * В случает если в массиве храняться null, они будут смещены до конца вправо
+     * Создает сортировщик с желаемой стратегией выбора опорного элемента
+     *
+     * @param pivotStrategy - стратегия выбора опорного элемента
+     */
+    public QuickSorter(PivotStrategy pivotStrategy) {
+        this.pivotStrategy = Objects.requireNonNull(pivotStrategy);
+    }
+
+    /**
+     * Создает сортировщик со случайным выбором опорного элемента
+     */
+    public QuickSorter() {
+        this(StandardPivotStrategy.RANDOM);
+    }
+
+    /**
+     * Сортирует диапазон [from, to) массива объектов в соотвествии с переданным компаратором.
+     * В случает если в диапазоне храняться null, они будут смещены до конца диапазона вправо
      *
      * @param data - массив для сортировке
+     * @param from - индекс первого элемента диапазона (включительно)
+     * @param to - индекс последнего элемента диапазона (исключительно)
      * @param comparator - реализация Comparator для сортируемых объектов
+     * @throws IndexOutOfBoundsException - если диапазон выходит за пределы массива
      */
     @Override
-    public void sort(Object[] data, Comparator<? super E> comparator) {
-        int shift = shiftNulls(data);
-        int high = data.length - 1 - shift;
-        quickSort(data, 0, high, comparator);
+    public void sort(Object[] data, int from, int to, Comparator<? super E> comparator) {
+        sort(data, from, to, comparator, SortProbe.NOOP);
     }
 
-    private void quickSort(Object[] data, int low, int high, Comparator<? super E> comparator) {
+    /**
+     * Сортирует диапазон [from, to) массива, сообщая о перестановках и глубине рекурсии в probe
+     *
+     * @param data       - массив для сортировке
+     * @param from       - индекс первого элемента диапазона (включительно)
+     * @param to         - индекс последнего элемента диапазона (исключительно)
+     * @param comparator - реализация Comparator для сортируемых объектов
+     * @param probe      - получатель сведений о ходе сортировки
+     * @throws IndexOutOfBoundsException - если диапазон выходит за пределы массива
+     */
+    @Override
+    public void sort(Object[] data, int from, int to, Comparator<? super E> comparator, SortProbe probe) {
+        Objects.checkFromToIndex(from, to, data.length);
+        int shift = SortSupport.moveNullsToEnd(data, from, to);
+        int high = to - 1 - shift;
+        quickSort(data, from, high, comparator, probe, 1);
+    }
+
+    /**
+     * Переставляет элементы диапазона [from, to) так, чтобы в позиции k оказался элемент, который стоял бы там
+     * после сортировки, слева от него - не большие, справа - не меньшие элементы (quickselect).
+     * Опорный элемент выбирается стратегией сортировщика, диапазон делится на три части, поэтому одинаковые
+     * ключи не ухудшают сложность. Ожидаемая сложность O(n). Значения null смещаются в конец диапазона
+     *
+     * @param data       - массив
+     * @param from       - индекс первого элемента диапазона (включительно)
+     * @param to         - индекс последнего элемента диапазона (исключительно)
+     * @param k          - индекс искомого элемента в массиве, from <= k < to
+     * @param comparator - реализация Comparator для сортируемых объектов
+     * @throws IndexOutOfBoundsException - если диапазон выходит за пределы массива или k вне диапазона
+     */
+    public void select(Object[] data, int from, int to, int k, Comparator<? super E> comparator) {
+        Objects.checkFromToIndex(from, to, data.length);
+        Objects.checkIndex(k - from, to - from);
+        int low = from;
+        int high = to - 1 - SortSupport.moveNullsToEnd(data, from, to);
+        while (low < high && k <= high) {
+            E pivot = (E) data[pivotStrategy.pivotIndex(data, low, high, comparator)];
+            int lt = low;
+            int gt = high;
+            int i = low;
+            while (i <= gt) {
+                int cmp = comparator.compare((E) data[i], pivot);
+                if (cmp < 0) {
+                    SortSupport.swap(data, lt++, i++);
+                } else if (cmp > 0) {
+                    SortSupport.swap(data, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            if (k < lt) {
+                high = lt - 1;
+            } else if (k > gt) {
+                low = gt + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void quickSort(Object[] data, int low, int high, Comparator<? super E> comparator,
+                           SortProbe probe, int depth) {
         if (low < high) {
-            int partition = partition(data, low, high, comparator);
+            probe.depth(depth);
+            int partition = partition(data, low, high, comparator, probe);
 
-            quickSort(data, low, partition - 1, comparator);
-            quickSort(data, partition + 1, high, comparator);
+            quickSort(data, low, partition - 1, comparator, probe, depth + 1);
+            quickSort(data, partition + 1, high, comparator, probe, depth + 1);
         }
     }
 
-    private int partition(Object[] data, int low, int high, Comparator<? super E> comparator) {
-        int rand = random.nextInt(low, high + 1);
+    private int partition(Object[] data, int low, int high, Comparator<? super E> comparator, SortProbe probe) {
+        int pivotIndex = pivotStrategy.pivotIndex(data, low, high, comparator);
 
-        E pivot = (E) data[rand];
+        E pivot = (E) data[pivotIndex];
 
-        Object temp = data[rand];
-        data[rand] = data[high];
+        probe.swap();
+        Object temp = data[pivotIndex];
+        data[pivotIndex] = data[high];
         data[high] = temp;
 
         int i = low - 1;
@@ -51,31 +140,18 @@ public class QuickSorter<E> implements Sorter<E> {
             if (comparator.compare((E) data[j], pivot) < 0) {
                 i++;
 
+                probe.swap();
                 temp = data[i];
                 data[i] = data[j];
                 data[j] = temp;
             }
         }
 
+        probe.swap();
         temp = data[++i];
         data[i] = data[high];
         data[high] = temp;
 
         return i;
     }
-
-    private int shiftNulls(Object[] data) {
-        int count = 0;
-        int high = data.length - 1;
-        for (int i = high; i >= 0; i--) {
-            if (data[i] == null) {
-                if (i < high) {
-                    data[i] = data[high - count];
-                    data[high - count] = null;
-                }
-                count++;
-            }
-        }
-        return count;
-    }
 }
@@ -0,0 +1,226 @@
+package org.example.list;
+
+import java.util.Objects;
+
+/**
+ * Поразрядная сортировка (LSD radix sort) массивов примитивов по байтам ключа.
+ * Гистограммы всех разрядов строятся за один проход, разряды, одинаковые у всех элементов, пропускаются.
+ * Для сортировки выделяется буфер размером с сортируемый диапазон. Короткие диапазоны сортируются вставками.
+ */
+final class RadixSort {
+
+    /**
+     * Размер диапазона, начиная с которого используется сортировка вставками
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 64;
+
+    private static final int RADIX_BITS = 8;
+
+    private static final int BUCKETS = 1 << RADIX_BITS;
+
+    private static final int MASK = BUCKETS - 1;
+
+    private RadixSort() {
+    }
+
+    /**
+     * Сортирует диапазон [from, to) массива по возрастанию
+     *
+     * @param data - массив для сортировки
+     * @param from - индекс первого элемента диапазона (включительно)
+     * @param to   - индекс последнего элемента диапазона (исключительно)
+     * @throws IndexOutOfBoundsException - если диапазон выходит за пределы массива
+     */
+    static void sort(int[] data, int from, int to) {
+        Objects.checkFromToIndex(from, to, data.length);
+        int n = to - from;
+        if (n < INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int current = data[i];
+                int j = i - 1;
+                while (j >= from && data[j] > current) {
+                    data[j + 1] = data[j];
+                    j--;
+                }
+                data[j + 1] = current;
+            }
+            return;
+        }
+
+        int passes = Integer.SIZE / RADIX_BITS;
+        int[][] counts = new int[passes][BUCKETS];
+        for (int i = from; i < to; i++) {
+            int key = data[i] ^ Integer.MIN_VALUE;
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][(key >>> (pass * RADIX_BITS)) & MASK]++;
+            }
+        }
+
+        int[] source = data;
+        int sourceOffset = from;
+        int[] target = new int[n];
+        int targetOffset = 0;
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * RADIX_BITS;
+            int[] count = counts[pass];
+            if (count[((source[sourceOffset] ^ Integer.MIN_VALUE) >>> shift) & MASK] == n) {
+                continue;
+            }
+            toOffsets(count);
+            for (int i = 0; i < n; i++) {
+                int value = source[sourceOffset + i];
+                target[targetOffset + count[((value ^ Integer.MIN_VALUE) >>> shift) & MASK]++] = value;
+            }
+            int[] temp = source;
+            source = target;
+            target = temp;
+            int tempOffset = sourceOffset;
+            sourceOffset = targetOffset;
+            targetOffset = tempOffset;
+        }
+        if (source != data) {
+            System.arraycopy(source, sourceOffset, data, from, n);
+        }
+    }
+
+    /**
+     * Сортирует диапазон [from, to) массива по возрастанию
+     *
+     * @param data - массив для сортировки
+     * @param from - индекс первого элемента диапазона (включительно)
+     * @param to   - индекс последнего элемента диапазона (исключительно)
+     * @throws IndexOutOfBoundsException - если диапазон выходит за пределы массива
+     */
+    static void sort(long[] data, int from, int to) {
+        Objects.checkFromToIndex(from, to, data.length);
+        int n = to - from;
+        if (n < INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                long current = data[i];
+                int j = i - 1;
+                while (j >= from && data[j] > current) {
+                    data[j + 1] = data[j];
+                    j--;
+                }
+                data[j + 1] = current;
+            }
+            return;
+        }
+
+        int passes = Long.SIZE / RADIX_BITS;
+        int[][] counts = new int[passes][BUCKETS];
+        for (int i = from; i < to; i++) {
+            long key = data[i] ^ Long.MIN_VALUE;
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][(int) (key >>> (pass * RADIX_BITS)) & MASK]++;
+            }
+        }
+
+        long[] source = data;
+        int sourceOffset = from;
+        long[] target = new long[n];
+        int targetOffset = 0;
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * RADIX_BITS;
+            int[] count = counts[pass];
+            if (count[(int) ((source[sourceOffset] ^ Long.MIN_VALUE) >>> shift) & MASK] == n) {
+                continue;
+            }
+            toOffsets(count);
+            for (int i = 0; i < n; i++) {
+                long value = source[sourceOffset + i];
+                target[targetOffset + count[(int) ((value ^ Long.MIN_VALUE) >>> shift) & MASK]++] = value;
+            }
+            long[] temp = source;
+            source = target;
+            target = temp;
+            int tempOffset = sourceOffset;
+            sourceOffset = targetOffset;
+            targetOffset = tempOffset;
+        }
+        if (source != data) {
+            System.arraycopy(source, sourceOffset, data, from, n);
+        }
+    }
+
+    /**
+     * Сортирует диапазон [from, to) массива по возрастанию в порядке Double.compare:
+     * -0.0 меньше 0.0, NaN больше всех остальных значений
+     *
+     * @param data - массив для сортировки
+     * @param from - индекс первого элемента диапазона (включительно)
+     * @param to   - индекс последнего элемента диапазона (исключительно)
+     * @throws IndexOutOfBoundsException - если диапазон выходит за пределы массива
+     */
+    static void sort(double[] data, int from, int to) {
+        Objects.checkFromToIndex(from, to, data.length);
+        int n = to - from;
+        if (n < INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                double current = data[i];
+                int j = i - 1;
+                while (j >= from && Double.compare(data[j], current) > 0) {
+                    data[j + 1] = data[j];
+                    j--;
+                }
+                data[j + 1] = current;
+            }
+            return;
+        }
+
+        int passes = Long.SIZE / RADIX_BITS;
+        int[][] counts = new int[passes][BUCKETS];
+        for (int i = from; i < to; i++) {
+            long key = sortableBits(data[i]);
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][(int) (key >>> (pass * RADIX_BITS)) & MASK]++;
+            }
+        }
+
+        double[] source = data;
+        int sourceOffset = from;
+        double[] target = new double[n];
+        int targetOffset = 0;
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * RADIX_BITS;
+            int[] count = counts[pass];
+            if (count[(int) (sortableBits(source[sourceOffset]) >>> shift) & MASK] == n) {
+                continue;
+            }
+            toOffsets(count);
+            for (int i = 0; i < n; i++) {
+                double value = source[sourceOffset + i];
+                target[targetOffset + count[(int) (sortableBits(value) >>> shift) & MASK]++] = value;
+            }
+            double[] temp = source;
+            source = target;
+            target = temp;
+            int tempOffset = sourceOffset;
+            sourceOffset = targetOffset;
+            targetOffset = tempOffset;
+        }
+        if (source != data) {
+            System.arraycopy(source, sourceOffset, data, from, n);
+        }
+    }
+
+    /**
+     * Преобразует значение double в ключ, беззнаковый порядок которого совпадает с Double.compare
+     */
+    private static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+
+    /**
+     * Заменяет количество элементов в каждой корзине на позицию первого элемента корзины
+     */
+    private static void toOffsets(int[] count) {
+        int sum = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            int c = count[bucket];
+            count[bucket] = sum;
+            sum += c;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.list;
+
+/**
+ * Вспомогательные операции, общие для реализаций Sorter.
+ */
+final class SortSupport {
+
+    private SortSupport() {
+    }
+
+    /**
+     * Смещает все null диапазона [from, to) в его конец. Относительный порядок остальных элементов сохраняется,
+     * поэтому метод подходит и для устойчивых сортировок.
+     *
+     * @param data - массив
+     * @param from - индекс первого элемента диапазона (включительно)
+     * @param to   - индекс последнего элемента диапазона (исключительно)
+     * @return : количество найденных null
+     */
+    static int moveNullsToEnd(Object[] data, int from, int to) {
+        int write = from;
+        for (int read = from; read < to; read++) {
+            Object e = data[read];
+            if (e != null) {
+                if (read != write) {
+                    data[write] = e;
+                }
+                write++;
+            }
+        }
+        for (int i = write; i < to; i++) {
+            data[i] = null;
+        }
+        return to - write;
+    }
+
+    static void swap(Object[] data, int i, int j) {
+        Object temp = data[i];
+        data[i] = data[j];
+        data[j] = temp;
+    }
+}
@@ -0,0 +1,499 @@
+package org.example.list;
+
+import org.example.list.api.ICustomArrayList;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Реализация ICustomArrayList интерфейса, постоянно упорядоченная заданным компаратором.
+ * Элементы хранятся в CustomArrayList. Поиск выполняется бинарным поиском за O(log n), вставка находит
+ * позицию бинарным поиском и сдвигает хвост одним System.arraycopy.
+ * Значения null считаются наибольшими, как и при сортировке Sorter. Равные элементы хранятся в порядке
+ * добавления: новый элемент вставляется после всех равных ему.
+ * Операции, которые могут нарушить порядок (add по индексу, replace), проверяют соседние элементы
+ * и выбрасывают IllegalArgumentException, если порядок нарушается.
+ * Массовое добавление (addAll без индекса) сортирует добавляемые элементы устойчивой сортировкой
+ * и сливает их с элементами списка за O(n + m log m) вместо вставки каждого элемента по отдельности.
+ * Реализация не синхронизирована.
+ *
+ * @param <E> - тип элементов списка
+ * @author : Kiryl Staravoitau
+ */
+public class SortedCustomArrayList<E> implements ICustomArrayList<E> {
+
+    /**
+     * Компаратор, задающий порядок списка
+     */
+    private final Comparator<? super E> comparator;
+
+    /**
+     * Элементы списка в порядке comparator
+     */
+    private final CustomArrayList<E> elements;
+
+    /**
+     * Создает пустой список с желаемой начальной емкостью и компаратором
+     *
+     * @param capacity   - начальная емкость списка
+     * @param comparator - компаратор, задающий порядок списка
+     * @throws IllegalArgumentException - если передано отрицательное значение емкости
+     */
+    public SortedCustomArrayList(int capacity, Comparator<? super E> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+        this.elements = new CustomArrayList<>(capacity);
+    }
+
+    /**
+     * Создает пустой список с начальной емкостью 10 и желаемым компаратором
+     *
+     * @param comparator - компаратор, задающий порядок списка
+     */
+    public SortedCustomArrayList(Comparator<? super E> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+        this.elements = new CustomArrayList<>();
+    }
+
+    /**
+     * Возвращает компаратор, задающий порядок списка
+     *
+     * @return : компаратор списка
+     */
+    public Comparator<? super E> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Вставляет элемент в позицию, сохраняющую порядок, после всех равных ему элементов
+     *
+     * @param e - вставляемый элемент
+     * @return : индекс вставленного элемента
+     */
+    public int insertSorted(E e) {
+        int index = upperBound(e);
+        elements.add(index, e);
+        return index;
+    }
+
+    /**
+     * Добавляет элемент в позицию, сохраняющую порядок. То же, что insertSorted
+     *
+     * @param e - вставляемый элемент
+     */
+    @Override
+    public void add(E e) {
+        insertSorted(e);
+    }
+
+    /**
+     * Добавляет элемент по индексу, если это не нарушает порядок списка
+     *
+     * @param index - индекс по которому недходимо произвести вставку
+     * @param e     - вставляемый элемент
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     * @throws IllegalArgumentException  - если элемент в этой позиции нарушает порядок списка
+     */
+    @Override
+    public void add(int index, E e) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+        checkOrder(index - 1, e, index);
+        elements.add(index, e);
+    }
+
+    /**
+     * Добавляет элементы коллекции в позиции, сохраняющие порядок. Элементы сортируются устойчивой
+     * сортировкой и сливаются с элементами списка, равные элементы коллекции располагаются после равных
+     * элементов списка в порядке обхода коллекции
+     *
+     * @param c - коллекция добавляемых элементов
+     */
+    @Override
+    public void addAll(Collection<? extends E> c) {
+        mergeSorted(c.toArray());
+    }
+
+    /**
+     * Добавляет элементы массива в позиции, сохраняющие порядок. То же, что addAll(Collection)
+     *
+     * @param elements - массив добавляемых элементов
+     */
+    @Override
+    public void addAll(E[] elements) {
+        mergeSorted(Arrays.copyOf(elements, elements.length, Object[].class));
+    }
+
+    /**
+     * Добавляет элементы другого списка в позиции, сохраняющие порядок. То же, что addAll(Collection)
+     *
+     * @param list - список добавляемых элементов
+     */
+    @Override
+    public void addAll(ICustomArrayList<? extends E> list) {
+        mergeSorted(list.toArray());
+    }
+
+    /**
+     * Добавляет элементы коллекции по индексу, если они упорядочены и не нарушают порядок списка.
+     * Порядок проверяется до вставки, поэтому при ошибке список не изменяется
+     *
+     * @param index - индекс по которому недходимо произвести вставку
+     * @param c     - коллекция добавляемых элементов
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     * @throws IllegalArgumentException  - если элементы в этой позиции нарушают порядок списка
+     */
+    @Override
+    public void addAll(int index, Collection<? extends E> c) {
+        insertChecked(index, c.toArray());
+    }
+
+    /**
+     * Добавляет элементы массива по индексу, если они упорядочены и не нарушают порядок списка.
+     * Порядок проверяется до вставки, поэтому при ошибке список не изменяется
+     *
+     * @param index    - индекс по которому недходимо произвести вставку
+     * @param elements - массив добавляемых элементов
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     * @throws IllegalArgumentException  - если элементы в этой позиции нарушают порядок списка
+     */
+    @Override
+    public void addAll(int index, E[] elements) {
+        insertChecked(index, Arrays.copyOf(elements, elements.length, Object[].class));
+    }
+
+    /**
+     * Добавляет элементы другого списка по индексу, если они упорядочены и не нарушают порядок списка.
+     * Порядок проверяется до вставки, поэтому при ошибке список не изменяется
+     *
+     * @param index - индекс по которому недходимо произвести вставку
+     * @param list  - список добавляемых элементов
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     * @throws IllegalArgumentException  - если элементы в этой позиции нарушают порядок списка
+     */
+    @Override
+    public void addAll(int index, ICustomArrayList<? extends E> list) {
+        insertChecked(index, list.toArray());
+    }
+
+    /**
+     * Получает элемент по индексу
+     *
+     * @param index - индексы получаемого элемента
+     * @return : элемент по искомому индексу
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    /**
+     * Удаляет элемент спика по индексу. Порядок оставшихся элементов сохраняется
+     *
+     * @param index - индекс удаляемго элемента
+     * @return - удаленный элемент
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     */
+    @Override
+    public E remove(int index) {
+        return elements.remove(index);
+    }
+
+    /**
+     * Очищает список
+     */
+    @Override
+    public void clear() {
+        elements.clear();
+    }
+
+    /**
+     * Список всегда упорядочен своим компаратором, поэтому сортировка тем же компаратором ничего не делает
+     *
+     * @param c - реализация Comparator для элементов списка
+     * @throws UnsupportedOperationException - если передан компаратор, отличный от компаратора списка
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        if (!comparator.equals(c)) {
+            throw new UnsupportedOperationException("Sorted list order is fixed by its comparator");
+        }
+    }
+
+    /**
+     * Заменяет елемент списка по индексу, если новый элемент не нарушает порядок списка
+     *
+     * @param index - индекс по которому проводится замена
+     * @param e     - элемент на который нужно заменить
+     * @throws IndexOutOfBoundsException - если переданный индекс отрицательный или выходит за пределы списка
+     * @throws IllegalArgumentException  - если элемент в этой позиции нарушает порядок списка
+     */
+    @Override
+    public void replace(int index, E e) {
+        Objects.checkIndex(index, size());
+        checkOrder(index - 1, e, index + 1);
+        elements.replace(index, e);
+    }
+
+    /**
+     * Возвращает размер списка
+     *
+     * @return : размер списка
+     */
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Ищет элемент, равный key по компаратору списка
+     *
+     * @param key - искомое значение
+     * @return : индекс первого равного элемента, если он есть, иначе (-(точка вставки) - 1)
+     */
+    public int binarySearch(E key) {
+        int index = lowerBound(key);
+        return index < size() && compare(elements.get(index), key) == 0 ? index : -index - 1;
+    }
+
+    /**
+     * Возвращает индекс первого элемента, не меньшего key
+     *
+     * @param key - искомое значение
+     * @return : индекс в диапазоне [0, size]
+     */
+    public int lowerBound(E key) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(elements.get(mid), key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Возвращает индекс первого элемента, большего key
+     *
+     * @param key - искомое значение
+     * @return : индекс в диапазоне [0, size]
+     */
+    public int upperBound(E key) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(elements.get(mid), key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Возвращает окно индексов элементов из диапазона значений [from, to)
+     *
+     * @param from - нижняя граница значений включительно
+     * @param to   - верхняя граница значений исключительно
+     * @return : окно индексов, пустое, если from не меньше to
+     */
+    public Range range(E from, E to) {
+        int start = lowerBound(from);
+        return new Range(start, Math.max(start, lowerBound(to)));
+    }
+
+    /**
+     * Возвращает окно индексов элементов, равных key по компаратору списка
+     *
+     * @param key - искомое значение
+     * @return : окно индексов равных элементов
+     */
+    public Range equalRange(E key) {
+        return new Range(lowerBound(key), upperBound(key));
+    }
+
+    /**
+     * Возвращает индекс первого элемента, равного o по компаратору списка
+     *
+     * @param o - искомое значение
+     * @return : индекс элемента или -1, если элемента нет
+     * @throws ClassCastException - если o не сравним компаратором списка
+     */
+    @Override
+    public int indexOf(Object o) {
+        int index = binarySearch((E) o);
+        return index < 0 ? -1 : index;
+    }
+
+    /**
+     * Возвращает индекс последнего элемента, равного o по компаратору списка
+     *
+     * @param o - искомое значение
+     * @return : индекс элемента или -1, если элемента нет
+     * @throws ClassCastException - если o не сравним компаратором списка
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        int index = upperBound((E) o) - 1;
+        return index >= 0 && compare(elements.get(index), (E) o) == 0 ? index : -1;
+    }
+
+    /**
+     * Проверяет наличие элемента, равного o по компаратору списка
+     *
+     * @param o - искомое значение
+     * @return : true, если элемент есть в списке
+     * @throws ClassCastException - если o не сравним компаратором списка
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return elements.toArray();
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        elements.removeRange(from, to);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        return elements.removeIf(filter);
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        elements.forEach(action);
+    }
+
+    @Override
+    public void forEachRange(int from, int to, Consumer<? super E> action) {
+        elements.forEachRange(from, to, action);
+    }
+
+    /**
+     * Предоставляет итератор для списка
+     *
+     * @return : итератор для списка
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return elements.iterator();
+    }
+
+    @Override
+    public String toString() {
+        return elements.toString();
+    }
+
+    /**
+     * Сравнивает элементы компаратором списка, считая null наибольшим значением
+     */
+    private int compare(E a, E b) {
+        if (a == null || b == null) {
+            return a == null ? (b == null ? 0 : 1) : -1;
+        }
+        return comparator.compare(a, b);
+    }
+
+    /**
+     * Сортирует batch устойчиво и сливает с элементами списка. Сливается только хвост списка, начиная
+     * с позиции вставки наименьшего элемента batch, поэтому добавление больших элементов сводится к
+     * добавлению в конец
+     */
+    private void mergeSorted(Object[] batch) {
+        if (batch.length == 0) {
+            return;
+        }
+        new TimSorter<E>().sort(batch, 0, batch.length, comparator);
+        int start = upperBound((E) batch[0]);
+        int size = size();
+        Object[] tail = new Object[size - start];
+        for (int i = start; i < size; i++) {
+            tail[i - start] = elements.get(i);
+        }
+        elements.removeRange(start, size);
+        Object[] merged = new Object[tail.length + batch.length];
+        int t = 0;
+        int b = 0;
+        for (int m = 0; m < merged.length; m++) {
+            if (b == batch.length || t < tail.length && compare((E) tail[t], (E) batch[b]) <= 0) {
+                merged[m] = tail[t++];
+            } else {
+                merged[m] = batch[b++];
+            }
+        }
+        elements.addAll((E[]) merged);
+    }
+
+    /**
+     * Проверяет, что batch упорядочен и помещается по индексу, и вставляет его одной операцией
+     */
+    private void insertChecked(int index, Object[] batch) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+        if (batch.length == 0) {
+            return;
+        }
+        for (int i = 1; i < batch.length; i++) {
+            if (compare((E) batch[i - 1], (E) batch[i]) > 0) {
+                throw new IllegalArgumentException("Elements are not ordered: " + batch[i - 1] + ", " + batch[i]);
+            }
+        }
+        if (index > 0 && compare(elements.get(index - 1), (E) batch[0]) > 0
+                || index < size() && compare((E) batch[batch.length - 1], elements.get(index)) > 0) {
+            throw new IllegalArgumentException("Elements break list order at index " + index);
+        }
+        elements.addAll(index, (E[]) batch);
+    }
+
+    /**
+     * Проверяет, что e можно разместить между элементами с индексами before и after
+     */
+    private void checkOrder(int before, E e, int after) {
+        if (before >= 0 && compare(elements.get(before), e) > 0
+                || after < size() && compare(e, elements.get(after)) > 0) {
+            throw new IllegalArgumentException("Element breaks list order: " + e);
+        }
+    }
+
+    /**
+     * Окно индексов [from, to) отсортированного списка
+     *
+     * @param from - индекс первого элемента включительно
+     * @param to   - индекс последнего элемента исключительно
+     */
+    public record Range(int from, int to) {
+
+        /**
+         * @return : количество элементов в окне
+         */
+        public int size() {
+            return to - from;
+        }
+
+        /**
+         * @return : true, если окно не содержит элементов
+         */
+        public boolean isEmpty() {
+            return from == to;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.list;
+
+import org.example.list.api.PivotStrategy;
+
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Стандартные стратегии выбора опорного элемента. Ни одна из стратегий не выделяет память и не обращается
+ * к разделяемому между потоками состоянию.
+ */
+public enum StandardPivotStrategy implements PivotStrategy {
+
+    /**
+     * Случайный элемент диапазона. Используется генератор текущего потока ThreadLocalRandom
+     */
+    RANDOM {
+        @Override
+        public <E> int pivotIndex(Object[] data, int low, int high, Comparator<? super E> comparator) {
+            return ThreadLocalRandom.current().nextInt(low, high + 1);
+        }
+    },
+
+    /**
+     * Медиана первого, среднего и последнего элементов диапазона
+     */
+    MEDIAN_OF_THREE {
+        @Override
+        public <E> int pivotIndex(Object[] data, int low, int high, Comparator<? super E> comparator) {
+            return medianOfThree(data, low, (low + high) >>> 1, high, comparator);
+        }
+    },
+
+    /**
+     * Медиана трех медиан из трех элементов (ninther) для больших диапазонов и медиана из трех для остальных
+     */
+    NINTHER {
+        @Override
+        public <E> int pivotIndex(Object[] data, int low, int high, Comparator<? super E> comparator) {
+            int mid = (low + high) >>> 1;
+            if (high - low < NINTHER_THRESHOLD) {
+                return medianOfThree(data, low, mid, high, comparator);
+            }
+            int step = (high - low + 1) >>> 3;
+            int a = medianOfThree(data, low, low + step, low + 2 * step, comparator);
+            int b = medianOfThree(data, mid - step, mid, mid + step, comparator);
+            int c = medianOfThree(data, high - 2 * step, high - step, high, comparator);
+            return medianOfThree(data, a, b, c, comparator);
+        }
+    };
+
+    /**
+     * Размер диапазона, начиная с которого стратегия NINTHER использует медиану из девяти элементов
+     */
+    private static final int NINTHER_THRESHOLD = 128;
+
+    private static <E> int medianOfThree(Object[] data, int a, int b, int c, Comparator<? super E> comparator) {
+        E x = (E) data[a];
+        E y = (E) data[b];
+        E z = (E) data[c];
+        if (comparator.compare(x, y) < 0) {
+            if (comparator.compare(y, z) < 0) {
+                return b;
+            }
+            return comparator.compare(x, z) < 0 ? c : a;
+        }
+        if (comparator.compare(x, z) < 0) {
+            return a;
+        }
+        return comparator.compare(y, z) < 0 ? c : b;
+    }
+}
@@ -0,0 +1,551 @@
+package org.example.list;
+
+import org.example.list.api.Sorter;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Реализация интерфейса Sorter устойчивой сортировкой слиянием естественных серий (TimSort).
+ * Диапазон разбивается на уже упорядоченные серии (убывающие серии разворачиваются), короткие серии
+ * дополняются бинарными вставками, после чего серии сливаются с использованием галопирования.
+ * Почти упорядоченные данные сортируются за время близкое к линейному, а равные элементы сохраняют
+ * исходный порядок, что позволяет последовательно сортировать список по нескольким ключам.
+ * Временный буфер слияния хранится в экземпляре сортировщика и переиспользуется между вызовами, поэтому
+ * экземпляр не должен использоваться из нескольких потоков одновременно.
+ *
+ * @param <E> - тип элементов сортировки
+ */
+public class TimSorter<E> implements Sorter<E> {
+
+    /**
+     * Диапазоны короче этого значения сортируются бинарными вставками без слияний
+     */
+    private static final int MIN_MERGE = 32;
+
+    /**
+     * Начальный порог перехода в режим галопирования
+     */
+    private static final int MIN_GALLOP = 7;
+
+    /**
+     * Максимальная глубина стека серий. Длины серий в стеке растут не медленнее чисел Фибоначчи,
+     * поэтому для массивов длиной до Integer.MAX_VALUE этого значения достаточно
+     */
+    private static final int MAX_RUN_STACK = 49;
+
+    private final int[] runBase = new int[MAX_RUN_STACK];
+
+    private final int[] runLen = new int[MAX_RUN_STACK];
+
+    /**
+     * Временный буфер слияния, переиспользуемый между вызовами
+     */
+    private Object[] tmp = new Object[0];
+
+    /**
+     * Количество ячеек буфера, занятых в текущей сортировке. Необходимо для его очистки после сортировки
+     */
+    private int tmpUsed;
+
+    private Object[] a;
+
+    private Comparator<? super E> c;
+
+    private int minGallop;
+
+    private int stackSize;
+
+    /**
+     * Сортирует диапазон [from, to) массива объектов в соотвествии с переданным компаратором.
+     * Сортировка устойчива. В случает если в диапазоне храняться null, они будут смещены до конца диапазона
+     * вправо, порядок остальных элементов при этом сохраняется
+     *
+     * @param data       - массив для сортировки
+     * @param from       - индекс первого элемента диапазона (включительно)
+     * @param to         - индекс последнего элемента диапазона (исключительно)
+     * @param comparator - реализация Comparator для сортируемых объектов
+     * @throws IndexOutOfBoundsException - если диапазон выходит за пределы массива
+     * @throws IllegalArgumentException  - если компаратор нарушает свой контракт
+     */
+    @Override
+    public void sort(Object[] data, int from, int to, Comparator<? super E> comparator) {
+        Objects.checkFromToIndex(from, to, data.length);
+        int hi = to - SortSupport.moveNullsToEnd(data, from, to);
+        int remaining = hi - from;
+        if (remaining < 2) {
+            return;
+        }
+        this.a = data;
+        this.c = comparator;
+        try {
+            if (remaining < MIN_MERGE) {
+                int initRunLen = countRunAndMakeAscending(from, hi);
+                binarySort(from, hi, from + initRunLen);
+                return;
+            }
+            this.minGallop = MIN_GALLOP;
+            this.stackSize = 0;
+            int lo = from;
+            int minRun = minRunLength(remaining);
+            do {
+                int len = countRunAndMakeAscending(lo, hi);
+                if (len < minRun) {
+                    int force = Math.min(remaining, minRun);
+                    binarySort(lo, lo + force, lo + len);
+                    len = force;
+                }
+                pushRun(lo, len);
+                mergeCollapse();
+                lo += len;
+                remaining -= len;
+            } while (remaining != 0);
+            mergeForceCollapse();
+        } finally {
+            Arrays.fill(tmp, 0, tmpUsed, null);
+            tmpUsed = 0;
+            this.a = null;
+            this.c = null;
+        }
+    }
+
+    private int compare(Object x, Object y) {
+        return c.compare((E) x, (E) y);
+    }
+
+    private static int minRunLength(int n) {
+        int r = 0;
+        while (n >= MIN_MERGE) {
+            r |= (n & 1);
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    /**
+     * Находит длину серии, начинающейся с lo. Строго убывающая серия разворачивается
+     * (строгость необходима для сохранения устойчивости)
+     */
+    private int countRunAndMakeAscending(int lo, int hi) {
+        int runHi = lo + 1;
+        if (runHi == hi) {
+            return 1;
+        }
+        if (compare(a[runHi++], a[lo]) < 0) {
+            while (runHi < hi && compare(a[runHi], a[runHi - 1]) < 0) {
+                runHi++;
+            }
+            reverseRange(lo, runHi);
+        } else {
+            while (runHi < hi && compare(a[runHi], a[runHi - 1]) >= 0) {
+                runHi++;
+            }
+        }
+        return runHi - lo;
+    }
+
+    private void reverseRange(int lo, int hi) {
+        hi--;
+        while (lo < hi) {
+            SortSupport.swap(a, lo++, hi--);
+        }
+    }
+
+    /**
+     * Сортирует диапазон [lo, hi) бинарными вставками, считая что [lo, start) уже упорядочен
+     */
+    private void binarySort(int lo, int hi, int start) {
+        if (start == lo) {
+            start++;
+        }
+        for (; start < hi; start++) {
+            Object pivot = a[start];
+            int left = lo;
+            int right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (compare(pivot, a[mid]) < 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            System.arraycopy(a, left, a, left + 1, start - left);
+            a[left] = pivot;
+        }
+    }
+
+    private void pushRun(int base, int len) {
+        runBase[stackSize] = base;
+        runLen[stackSize] = len;
+        stackSize++;
+    }
+
+    /**
+     * Сливает серии на вершине стека, пока не будут восстановлены инварианты:
+     * runLen[i - 3] > runLen[i - 2] + runLen[i - 1] и runLen[i - 2] > runLen[i - 1]
+     */
+    private void mergeCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1]
+                    || n > 1 && runLen[n - 2] <= runLen[n] + runLen[n - 1]) {
+                if (runLen[n - 1] < runLen[n + 1]) {
+                    n--;
+                }
+            } else if (runLen[n] > runLen[n + 1]) {
+                break;
+            }
+            mergeAt(n);
+        }
+    }
+
+    private void mergeForceCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLen[n - 1] < runLen[n + 1]) {
+                n--;
+            }
+            mergeAt(n);
+        }
+    }
+
+    private void mergeAt(int i) {
+        int base1 = runBase[i];
+        int len1 = runLen[i];
+        int base2 = runBase[i + 1];
+        int len2 = runLen[i + 1];
+
+        runLen[i] = len1 + len2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLen[i + 1] = runLen[i + 2];
+        }
+        stackSize--;
+
+        // элементы первой серии, меньшие первого элемента второй, уже на своих местах
+        int k = gallopRight(a[base2], a, base1, len1, 0);
+        base1 += k;
+        len1 -= k;
+        if (len1 == 0) {
+            return;
+        }
+
+        // элементы второй серии, большие последнего элемента первой, тоже на своих местах
+        len2 = gallopLeft(a[base1 + len1 - 1], a, base2, len2, len2 - 1);
+        if (len2 == 0) {
+            return;
+        }
+
+        if (len1 <= len2) {
+            mergeLo(base1, len1, base2, len2);
+        } else {
+            mergeHi(base1, len1, base2, len2);
+        }
+    }
+
+    /**
+     * Находит позицию, в которую нужно вставить key в упорядоченный диапазон, левее всех равных ему элементов
+     */
+    private int gallopLeft(Object key, Object[] array, int base, int len, int hint) {
+        int lastOfs = 0;
+        int ofs = 1;
+        if (compare(key, array[base + hint]) > 0) {
+            int maxOfs = len - hint;
+            while (ofs < maxOfs && compare(key, array[base + hint + ofs]) > 0) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) {
+                    ofs = maxOfs;
+                }
+            }
+            if (ofs > maxOfs) {
+                ofs = maxOfs;
+            }
+            lastOfs += hint;
+            ofs += hint;
+        } else {
+            int maxOfs = hint + 1;
+            while (ofs < maxOfs && compare(key, array[base + hint - ofs]) <= 0) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) {
+                    ofs = maxOfs;
+                }
+            }
+            if (ofs > maxOfs) {
+                ofs = maxOfs;
+            }
+            int temp = lastOfs;
+            lastOfs = hint - ofs;
+            ofs = hint - temp;
+        }
+
+        lastOfs++;
+        while (lastOfs < ofs) {
+            int m = lastOfs + ((ofs - lastOfs) >>> 1);
+            if (compare(key, array[base + m]) > 0) {
+                lastOfs = m + 1;
+            } else {
+                ofs = m;
+            }
+        }
+        return ofs;
+    }
+
+    /**
+     * Находит позицию, в которую нужно вставить key в упорядоченный диапазон, правее всех равных ему элементов
+     */
+    private int gallopRight(Object key, Object[] array, int base, int len, int hint) {
+        int lastOfs = 0;
+        int ofs = 1;
+        if (compare(key, array[base + hint]) < 0) {
+            int maxOfs = hint + 1;
+            while (ofs < maxOfs && compare(key, array[base + hint - ofs]) < 0) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) {
+                    ofs = maxOfs;
+                }
+            }
+            if (ofs > maxOfs) {
+                ofs = maxOfs;
+            }
+            int temp = lastOfs;
+            lastOfs = hint - ofs;
+            ofs = hint - temp;
+        } else {
+            int maxOfs = len - hint;
+            while (ofs < maxOfs && compare(key, array[base + hint + ofs]) >= 0) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) {
+                    ofs = maxOfs;
+                }
+            }
+            if (ofs > maxOfs) {
+                ofs = maxOfs;
+            }
+            lastOfs += hint;
+            ofs += hint;
+        }
+
+        lastOfs++;
+        while (lastOfs < ofs) {
+            int m = lastOfs + ((ofs - lastOfs) >>> 1);
+            if (compare(key, array[base + m]) < 0) {
+                ofs = m;
+            } else {
+                lastOfs = m + 1;
+            }
+        }
+        return ofs;
+    }
+
+    /**
+     * Сливает соседние серии, копируя во временный буфер первую (более короткую) из них
+     */
+    private void mergeLo(int base1, int len1, int base2, int len2) {
+        Object[] a = this.a;
+        Object[] tmp = ensureTmpCapacity(len1);
+        System.arraycopy(a, base1, tmp, 0, len1);
+        int cursor1 = 0;
+        int cursor2 = base2;
+        int dest = base1;
+
+        a[dest++] = a[cursor2++];
+        if (--len2 == 0) {
+            System.arraycopy(tmp, cursor1, a, dest, len1);
+            return;
+        }
+        if (len1 == 1) {
+            System.arraycopy(a, cursor2, a, dest, len2);
+            a[dest + len2] = tmp[cursor1];
+            return;
+        }
+
+        int minGallop = this.minGallop;
+        outer:
+        while (true) {
+            int count1 = 0;
+            int count2 = 0;
+
+            do {
+                if (compare(a[cursor2], tmp[cursor1]) < 0) {
+                    a[dest++] = a[cursor2++];
+                    count2++;
+                    count1 = 0;
+                    if (--len2 == 0) {
+                        break outer;
+                    }
+                } else {
+                    a[dest++] = tmp[cursor1++];
+                    count1++;
+                    count2 = 0;
+                    if (--len1 == 1) {
+                        break outer;
+                    }
+                }
+            } while ((count1 | count2) < minGallop);
+
+            do {
+                count1 = gallopRight(a[cursor2], tmp, cursor1, len1, 0);
+                if (count1 != 0) {
+                    System.arraycopy(tmp, cursor1, a, dest, count1);
+                    dest += count1;
+                    cursor1 += count1;
+                    len1 -= count1;
+                    if (len1 <= 1) {
+                        break outer;
+                    }
+                }
+                a[dest++] = a[cursor2++];
+                if (--len2 == 0) {
+                    break outer;
+                }
+
+                count2 = gallopLeft(tmp[cursor1], a, cursor2, len2, 0);
+                if (count2 != 0) {
+                    System.arraycopy(a, cursor2, a, dest, count2);
+                    dest += count2;
+                    cursor2 += count2;
+                    len2 -= count2;
+                    if (len2 == 0) {
+                        break outer;
+                    }
+                }
+                a[dest++] = tmp[cursor1++];
+                if (--len1 == 1) {
+                    break outer;
+                }
+                minGallop--;
+            } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+            if (minGallop < 0) {
+                minGallop = 0;
+            }
+            minGallop += 2;
+        }
+        this.minGallop = Math.max(minGallop, 1);
+
+        if (len1 == 1) {
+            System.arraycopy(a, cursor2, a, dest, len2);
+            a[dest + len2] = tmp[cursor1];
+        } else if (len1 == 0) {
+            throw new IllegalArgumentException("Comparison method violates its general contract!");
+        } else {
+            System.arraycopy(tmp, cursor1, a, dest, len1);
+        }
+    }
+
+    /**
+     * Сливает соседние серии с конца, копируя во временный буфер вторую (более короткую) из них
+     */
+    private void mergeHi(int base1, int len1, int base2, int len2) {
+        Object[] a = this.a;
+        Object[] tmp = ensureTmpCapacity(len2);
+        System.arraycopy(a, base2, tmp, 0, len2);
+        int cursor1 = base1 + len1 - 1;
+        int cursor2 = len2 - 1;
+        int dest = base2 + len2 - 1;
+
+        a[dest--] = a[cursor1--];
+        if (--len1 == 0) {
+            System.arraycopy(tmp, 0, a, dest - (len2 - 1), len2);
+            return;
+        }
+        if (len2 == 1) {
+            dest -= len1;
+            cursor1 -= len1;
+            System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+            a[dest] = tmp[cursor2];
+            return;
+        }
+
+        int minGallop = this.minGallop;
+        outer:
+        while (true) {
+            int count1 = 0;
+            int count2 = 0;
+
+            do {
+                if (compare(tmp[cursor2], a[cursor1]) < 0) {
+                    a[dest--] = a[cursor1--];
+                    count1++;
+                    count2 = 0;
+                    if (--len1 == 0) {
+                        break outer;
+                    }
+                } else {
+                    a[dest--] = tmp[cursor2--];
+                    count2++;
+                    count1 = 0;
+                    if (--len2 == 1) {
+                        break outer;
+                    }
+                }
+            } while ((count1 | count2) < minGallop);
+
+            do {
+                count1 = len1 - gallopRight(tmp[cursor2], a, base1, len1, len1 - 1);
+                if (count1 != 0) {
+                    dest -= count1;
+                    cursor1 -= count1;
+                    len1 -= count1;
+                    System.arraycopy(a, cursor1 + 1, a, dest + 1, count1);
+                    if (len1 == 0) {
+                        break outer;
+                    }
+                }
+                a[dest--] = tmp[cursor2--];
+                if (--len2 == 1) {
+                    break outer;
+                }
+
+                count2 = len2 - gallopLeft(a[cursor1], tmp, 0, len2, len2 - 1);
+                if (count2 != 0) {
+                    dest -= count2;
+                    cursor2 -= count2;
+                    len2 -= count2;
+                    System.arraycopy(tmp, cursor2 + 1, a, dest + 1, count2);
+                    if (len2 <= 1) {
+                        break outer;
+                    }
+                }
+                a[dest--] = a[cursor1--];
+                if (--len1 == 0) {
+                    break outer;
+                }
+                minGallop--;
+            } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+            if (minGallop < 0) {
+                minGallop = 0;
+            }
+            minGallop += 2;
+        }
+        this.minGallop = Math.max(minGallop, 1);
+
+        if (len2 == 1) {
+            dest -= len1;
+            cursor1 -= len1;
+            System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+            a[dest] = tmp[cursor2];
+        } else if (len2 == 0) {
+            throw new IllegalArgumentException("Comparison method violates its general contract!");
+        } else {
+            System.arraycopy(tmp, 0, a, dest - (len2 - 1), len2);
+        }
+    }
+
+    private Object[] ensureTmpCapacity(int minCapacity) {
+        if (tmp.length < minCapacity) {
+            int newSize = Integer.highestOneBit(minCapacity) << 1;
+            if (newSize < 0 || newSize > a.length) {
+                newSize = Math.max(minCapacity, a.length >>> 1);
+            }
+            tmp = new Object[newSize];
+        }
+        tmpUsed = Math.max(tmpUsed, minCapacity);
+        return tmp;
+    }
+}
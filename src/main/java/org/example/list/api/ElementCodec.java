@@ -0,0 +1,70 @@
+package org.example.list.api;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Данный интерфейс определяет преобразование элементов списка в двоичное представление фиксированного размера
+ * и обратно. Используется списками, хранящими элементы вне кучи.
+ *
+ * @author : Kiryl Staravoitau
+ * @param <E> - тип элементов списка
+ */
+public interface ElementCodec<E> {
+
+    /**
+     * Возвращает размер двоичного представления одного элемента
+     *
+     * @return : количество байт, занимаемых элементом
+     */
+    int size();
+
+    /**
+     * Записывает элемент в буфер начиная с абсолютной позиции offset. Позиция буфера не изменяется
+     *
+     * @param e      - записываемый элемент
+     * @param buffer - буфер
+     * @param offset - абсолютная позиция первого байта элемента
+     */
+    void encode(E e, ByteBuffer buffer, int offset);
+
+    /**
+     * Читает элемент из буфера начиная с абсолютной позиции offset. Позиция буфера не изменяется
+     *
+     * @param buffer - буфер
+     * @param offset - абсолютная позиция первого байта элемента
+     * @return : прочитанный элемент
+     */
+    E decode(ByteBuffer buffer, int offset);
+
+    /**
+     * Показывает, является ли элемент целым числом, представимым значением long. Для таких кодеков
+     * доступна разностная (delta) запись при сериализации списка
+     *
+     * @return : true, если поддерживаются toLong и fromLong
+     */
+    default boolean isIntegral() {
+        return false;
+    }
+
+    /**
+     * Преобразует элемент в значение long
+     *
+     * @param e - элемент
+     * @return : значение элемента
+     * @throws UnsupportedOperationException - если кодек не является целочисленным
+     */
+    default long toLong(E e) {
+        throw new UnsupportedOperationException("Codec is not integral");
+    }
+
+    /**
+     * Создает элемент из значения long
+     *
+     * @param value - значение элемента
+     * @return : элемент
+     * @throws UnsupportedOperationException - если кодек не является целочисленным
+     */
+    default E fromLong(long value) {
+        throw new UnsupportedOperationException("Codec is not integral");
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.list.api;
+
+/**
+ * Данный интерфейс определяет политику изменения ёмкости списка на основе массива: на сколько расширяется
+ * массив при нехватке места и нужно ли уменьшать его после удаления элементов.
+ *
+ * @author : Kiryl Staravoitau
+ */
+public interface GrowthPolicy {
+
+    /**
+     * Вычисляет новую ёмкость при расширении массива
+     *
+     * @param currentCapacity - текущая ёмкость
+     * @param minCapacity     - минимально необходимая ёмкость, всегда больше текущей
+     * @return : новая ёмкость, не меньше minCapacity
+     */
+    int grow(int currentCapacity, int minCapacity);
+
+    /**
+     * Вычисляет ёмкость после удаления элементов или очистки списка.
+     * По умолчанию массив никогда не уменьшается
+     *
+     * @param currentCapacity - текущая ёмкость
+     * @param size            - размер списка после удаления
+     * @return : новая ёмкость, не меньше size. Значение равное currentCapacity означает отказ от уменьшения
+     */
+    default int shrink(int currentCapacity, int size) {
+        return currentCapacity;
+    }
+}
@@ -1,6 +1,14 @@
 package org.example.list.api;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Интерфейс авторской реализии коллекции ArrayList.
@@ -12,8 +20,18 @@ import java.util.Comparator;
  *  - 1 метод удаления элемента по индексу
  *  - 1 метод очистки списка
  *  - 1 метод сортировки списка
+ *  - 1 метод получения копии элементов списка в виде массива
+ *  - 6 методов пакетного добавления элементов (коллекции, массива или другого списка в конец списка или по индексу)
+ *  - 2 метода пакетного удаления элементов (диапазона и по условию)
+ *  - 2 метода внутренней итерации (по диапазону и с передачей индекса элемента)
+ *  - 3 метода поиска элемента (indexOf, lastIndexOf, contains)
+ *  Методы пакетных операций и поиска имеют реализации по умолчанию, выраженные через поэлементные операции.
+ *  Реализации на основе массива должны переопределять их так, чтобы выполнялось одно резервирование
+ *  ёмкости и одно смещение элементов.
  *  Так же данный интерфей наследует интерфес Iterable, что означает предоставление метода
- *  iterator для итеррирования по списку.
+ *  iterator для итеррирования по списку, и предоставляет методы stream и parallelStream для обработки
+ *  списка потоками. Реализации на основе массива должны переопределять метод spliterator так, чтобы
+ *  список делился на равные части для параллельной обработки.
  *
  * @author : Kiry Staravoitau
  * @param <E> - тип элементов списка
@@ -36,4 +54,118 @@ public interface ICustomArrayList<E> extends Iterable<E> {
 
     void replace(int index, E e);
 
+    default void forEachRange(int from, int to, Consumer<? super E> action) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.requireNonNull(action);
+        for (int i = from; i < to; i++) {
+            action.accept(get(i));
+        }
+    }
+
+    default void forEachIndexed(IntObjConsumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int size = size();
+        for (int i = 0; i < size; i++) {
+            action.accept(i, get(i));
+        }
+    }
+
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    default Object[] toArray() {
+        Object[] result = new Object[size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = get(i);
+        }
+        return result;
+    }
+
+    default void addAll(Collection<? extends E> c) {
+        for (E e : c) {
+            add(e);
+        }
+    }
+
+    default void addAll(E[] elements) {
+        for (E e : elements) {
+            add(e);
+        }
+    }
+
+    default void addAll(ICustomArrayList<? extends E> list) {
+        for (Object e : list.toArray()) {
+            add((E) e);
+        }
+    }
+
+    default void addAll(int index, Collection<? extends E> c) {
+        for (E e : c) {
+            add(index++, e);
+        }
+    }
+
+    default void addAll(int index, E[] elements) {
+        for (E e : elements) {
+            add(index++, e);
+        }
+    }
+
+    default void addAll(int index, ICustomArrayList<? extends E> list) {
+        for (Object e : list.toArray()) {
+            add(index++, (E) e);
+        }
+    }
+
+    default void removeRange(int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        for (int i = from; i < to; i++) {
+            remove(from);
+        }
+    }
+
+    default boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        for (int i = size() - 1; i >= 0; i--) {
+            if (filter.test(get(i))) {
+                remove(i);
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    default int indexOf(Object o) {
+        for (int i = 0; i < size(); i++) {
+            if (Objects.equals(o, get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    default int lastIndexOf(Object o) {
+        for (int i = size() - 1; i >= 0; i--) {
+            if (Objects.equals(o, get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    default boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
 }
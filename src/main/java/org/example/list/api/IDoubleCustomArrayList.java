@@ -0,0 +1,31 @@
+package org.example.list.api;
+
+/**
+ * Интерфейс авторской реализации списка примитивов типа double, хранящего элементы без упаковки.
+ * Аналог интерфейса ICustomArrayList для значений double: методы работы с элементами имеют суффикс Double,
+ * что исключает случайную упаковку при вызове. Сортировка выполняется в естественном порядке double
+ * и не требует Comparator.
+ *
+ * @author : Kiryl Staravoitau
+ */
+public interface IDoubleCustomArrayList {
+
+    int size();
+
+    void addDouble(double e);
+
+    void addDouble(int index, double e);
+
+    double getDouble(int index);
+
+    double removeDouble(int index);
+
+    void replaceDouble(int index, double e);
+
+    void clear();
+
+    void sort();
+
+    double[] toDoubleArray();
+
+}
@@ -0,0 +1,31 @@
+package org.example.list.api;
+
+/**
+ * Интерфейс авторской реализации списка примитивов типа int, хранящего элементы без упаковки.
+ * Аналог интерфейса ICustomArrayList для значений int: методы работы с элементами имеют суффикс Int,
+ * что исключает случайную упаковку при вызове. Сортировка выполняется в естественном порядке int
+ * и не требует Comparator.
+ *
+ * @author : Kiryl Staravoitau
+ */
+public interface IIntCustomArrayList {
+
+    int size();
+
+    void addInt(int e);
+
+    void addInt(int index, int e);
+
+    int getInt(int index);
+
+    int removeInt(int index);
+
+    void replaceInt(int index, int e);
+
+    void clear();
+
+    void sort();
+
+    int[] toIntArray();
+
+}
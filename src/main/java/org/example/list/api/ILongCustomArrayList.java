@@ -0,0 +1,31 @@
+package org.example.list.api;
+
+/**
+ * Интерфейс авторской реализации списка примитивов типа long, хранящего элементы без упаковки.
+ * Аналог интерфейса ICustomArrayList для значений long: методы работы с элементами имеют суффикс Long,
+ * что исключает случайную упаковку при вызове. Сортировка выполняется в естественном порядке long
+ * и не требует Comparator.
+ *
+ * @author : Kiryl Staravoitau
+ */
+public interface ILongCustomArrayList {
+
+    int size();
+
+    void addLong(long e);
+
+    void addLong(int index, long e);
+
+    long getLong(int index);
+
+    long removeLong(int index);
+
+    void replaceLong(int index, long e);
+
+    void clear();
+
+    void sort();
+
+    long[] toLongArray();
+
+}
@@ -0,0 +1,20 @@
+package org.example.list.api;
+
+/**
+ * Операция над элементом списка и его индексом. Индекс передается примитивом, что исключает упаковку
+ * при обходе списка.
+ *
+ * @author : Kiryl Staravoitau
+ * @param <E> - тип элементов списка
+ */
+@FunctionalInterface
+public interface IntObjConsumer<E> {
+
+    /**
+     * Выполняет операцию над элементом
+     *
+     * @param index - индекс элемента
+     * @param e     - элемент
+     */
+    void accept(int index, E e);
+}
@@ -0,0 +1,66 @@
+package org.example.list.api;
+
+import javax.management.MXBean;
+
+/**
+ * Данный интерфейс предоставляет счетчики работы списка: расширения массива, смещения элементов
+ * и сортировки. Интерфейс является MXBean, поэтому метрики можно зарегистрировать в MBeanServer
+ * и читать через JMX. Значения читаются без синхронизации со списком и могут отставать от него.
+ *
+ * @author : Kiryl Staravoitau
+ */
+@MXBean
+public interface ListMetrics {
+
+    /**
+     * @return : количество выделений нового массива при расширении и уменьшении ёмкости
+     */
+    long getReallocations();
+
+    /**
+     * @return : суммарное количество элементов, скопированных при расширении и уменьшении ёмкости
+     */
+    long getCopiedOnReallocation();
+
+    /**
+     * @return : суммарное количество элементов, смещенных вставкой и удалением по индексу
+     */
+    long getShiftedElements();
+
+    /**
+     * @return : количество сортировок
+     */
+    long getSorts();
+
+    /**
+     * @return : суммарное количество сравнений при сортировках
+     */
+    long getComparisons();
+
+    /**
+     * @return : суммарное количество перестановок при сортировках. Считается только реализациями Sorter,
+     * поддерживающими SortProbe
+     */
+    long getSwaps();
+
+    /**
+     * @return : наибольшая глубина рекурсии среди всех сортировок. Считается только реализациями Sorter,
+     * поддерживающими SortProbe
+     */
+    int getMaxRecursionDepth();
+
+    /**
+     * @return : текущий размер списка
+     */
+    int getSize();
+
+    /**
+     * @return : текущая ёмкость списка
+     */
+    int getCapacity();
+
+    /**
+     * @return : неиспользуемая ёмкость: разность ёмкости и размера списка
+     */
+    int getWastedCapacity();
+}
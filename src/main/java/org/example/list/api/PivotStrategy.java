@@ -0,0 +1,25 @@
+package org.example.list.api;
+
+import java.util.Comparator;
+
+/**
+ * Данный интерфейс предоставляет метод выбора опорного элемента для сортировок, основанных на разбиении.
+ * Реализации не должны изменять массив и не должны иметь разделяемого между потоками изменяемого состояния,
+ * так как один экземпляр может одновременно использоваться при сортировке разных списков.
+ *
+ * @author : Kiryl Staravoitau
+ */
+public interface PivotStrategy {
+
+    /**
+     * Выбирает опорный элемент диапазона [low, high]
+     *
+     * @param data       - сортируемый массив
+     * @param low        - индекс первого элемента диапазона (включительно)
+     * @param high       - индекс последнего элемента диапазона (включительно)
+     * @param comparator - реализация Comparator для сортируемых объектов
+     * @param <E>        - тип элементов сортировки
+     * @return : индекс опорного элемента в пределах [low, high]
+     */
+    <E> int pivotIndex(Object[] data, int low, int high, Comparator<? super E> comparator);
+}
@@ -0,0 +1,36 @@
+package org.example.list.api;
+
+/**
+ * Данный интерфейс получает от реализации Sorter сведения о ходе сортировки: перестановки элементов
+ * и глубину рекурсии. Используется для сбора метрик. Реализация NOOP ничего не делает, и вызовы ее
+ * методов удаляются JIT-компилятором.
+ *
+ * @author : Kiryl Staravoitau
+ */
+public interface SortProbe {
+
+    /**
+     * Пустая реализация, используемая, когда метрики не собираются
+     */
+    SortProbe NOOP = new SortProbe() {
+        @Override
+        public void swap() {
+        }
+
+        @Override
+        public void depth(int depth) {
+        }
+    };
+
+    /**
+     * Вызывается при каждой перестановке двух элементов
+     */
+    void swap();
+
+    /**
+     * Вызывается при входе в рекурсивный вызов сортировки
+     *
+     * @param depth - глубина рекурсии, начиная с 1
+     */
+    void depth(int depth);
+}
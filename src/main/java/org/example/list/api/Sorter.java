@@ -3,11 +3,49 @@ package org.example.list.api;
 import java.util.Comparator;
 
 /**
- *  Данный интерфес предоствляет метод сортировки массива объектов типа Е с помощью Comparator
+ *  Данный интерфес предоствляет метод сортировки массива объектов типа Е с помощью Comparator.
+ *  Основным является метод сортировки диапазона [from, to) массива: он позволяет списку сортировать
+ *  только свои элементы, не затрагивая свободную ёмкость массива.
  *
  * @author : Kiryl Staravoitau
  * @param <E> - типа объектов массива
  */
 public interface Sorter<E> {
-    void sort(Object[] data, Comparator<? super E> comparator);
+
+    /**
+     * Сортирует весь массив объектов в соответствии с переданным компаратором
+     *
+     * @param data       - массив для сортировки
+     * @param comparator - реализация Comparator для сортируемых объектов
+     */
+    default void sort(Object[] data, Comparator<? super E> comparator) {
+        sort(data, 0, data.length, comparator);
+    }
+
+    /**
+     * Сортирует диапазон [from, to) массива объектов в соответствии с переданным компаратором.
+     * Элементы за пределами диапазона не читаются и не изменяются.
+     *
+     * @param data       - массив для сортировки
+     * @param from       - индекс первого элемента диапазона (включительно)
+     * @param to         - индекс последнего элемента диапазона (исключительно)
+     * @param comparator - реализация Comparator для сортируемых объектов
+     * @throws IndexOutOfBoundsException - если диапазон выходит за пределы массива
+     */
+    void sort(Object[] data, int from, int to, Comparator<? super E> comparator);
+
+    /**
+     * Сортирует диапазон [from, to) массива, сообщая о перестановках и глубине рекурсии в probe.
+     * Реализация по умолчанию не сообщает ничего и вызывает sort без probe
+     *
+     * @param data       - массив для сортировки
+     * @param from       - индекс первого элемента диапазона (включительно)
+     * @param to         - индекс последнего элемента диапазона (исключительно)
+     * @param comparator - реализация Comparator для сортируемых объектов
+     * @param probe      - получатель сведений о ходе сортировки
+     * @throws IndexOutOfBoundsException - если диапазон выходит за пределы массива
+     */
+    default void sort(Object[] data, int from, int to, Comparator<? super E> comparator, SortProbe probe) {
+        sort(data, from, to, comparator);
+    }
 }
@@ -0,0 +1,149 @@
+package org.example.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса AppendOnlyCustomArrayList
+ */
+class AppendOnlyCustomArrayListTest {
+
+    private final AppendOnlyCustomArrayList<Integer> list = new AppendOnlyCustomArrayList<>();
+
+    /**
+     * Тестируется добавление элементов, включая null, через границы нескольких сегментов
+     */
+    @Test
+    void shouldAddAcrossSegments() {
+        for (int i = 0; i < 10_000; i++) {
+            list.add(i % 100 == 0 ? null : i);
+        }
+        assertEquals(10_000, list.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i % 100 == 0 ? null : i, list.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(10_000));
+    }
+
+    /**
+     * Тестируется размещение элементов коллекции подряд
+     */
+    @Test
+    void shouldAddAllContiguously() {
+        list.add(0);
+        list.addAll(List.of(1, 2, 3));
+        assertEquals("[0, 1, 2, 3]", list.toString());
+    }
+
+    /**
+     * Тестируется невозможность изменения существующих элементов
+     */
+    @Test
+    void shouldThrowWhileModifying() {
+        list.add(1);
+        assertThrows(UnsupportedOperationException.class, () -> list.add(0, 1));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> list.replace(0, 2));
+        assertThrows(UnsupportedOperationException.class, () -> list.sort(Integer::compareTo));
+        assertThrows(UnsupportedOperationException.class, list::clear);
+    }
+
+    /**
+     * Тестируется одновременное добавление элементов из нескольких потоков: каждый элемент должен
+     * присутствовать в списке ровно один раз
+     */
+    @Test
+    void shouldAddConcurrently() throws Exception {
+        int producers = 8;
+        int perProducer = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        list.add(base + i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(producers * perProducer, list.size());
+        boolean[] seen = new boolean[producers * perProducer];
+        for (Integer e : list) {
+            assertFalse(seen[e]);
+            seen[e] = true;
+        }
+    }
+
+    /**
+     * Тестируется чтение ячеек, запись в которые не удалась из-за ошибки выделения сегмента:
+     * чтение выбрасывает исключение вместо бесконечного ожидания
+     */
+    @Test
+    void shouldNotWaitForFailedAdd() {
+        AppendOnlyCustomArrayList<Integer> failing = new AppendOnlyCustomArrayList<>(length -> {
+            if (length > 16) {
+                throw new OutOfMemoryError("Simulated");
+            }
+            return new Object[length];
+        });
+        for (int i = 0; i < 16; i++) {
+            failing.add(i);
+        }
+        assertThrows(OutOfMemoryError.class, () -> failing.add(16));
+        assertThrows(OutOfMemoryError.class, () -> failing.addAll(List.of(17, 18)));
+        assertEquals(19, failing.size());
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            assertThrows(IllegalStateException.class, () -> failing.get(16));
+            assertThrows(IllegalStateException.class, () -> failing.get(18));
+            assertThrows(IllegalStateException.class, failing::toString);
+        });
+        assertEquals(15, failing.get(15));
+    }
+
+    /**
+     * Тестируется повторное выделение сегмента после однократной ошибки: неудачной считается только ячейка
+     * неудавшегося добавления, а последующие добавления в тот же сегмент выполняются
+     */
+    @Test
+    void shouldRetrySegmentAllocationAfterFailure() {
+        AtomicBoolean failOnce = new AtomicBoolean(true);
+        AppendOnlyCustomArrayList<Integer> list = new AppendOnlyCustomArrayList<>(length -> {
+            if (length > 16 && failOnce.getAndSet(false)) {
+                throw new OutOfMemoryError("Simulated");
+            }
+            return new Object[length];
+        });
+        for (int i = 0; i < 16; i++) {
+            list.add(i);
+        }
+        assertThrows(OutOfMemoryError.class, () -> list.add(16));
+        list.addAll(List.of(17, 18));
+        list.add(19);
+        assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> assertThrows(IllegalStateException.class, () -> list.get(16)));
+        assertEquals(17, list.get(17));
+        assertEquals(18, list.get(18));
+        assertEquals(19, list.get(19));
+    }
+}
@@ -0,0 +1,143 @@
+package org.example.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса ChunkedCustomArrayList
+ */
+class ChunkedCustomArrayListTest {
+
+    private ChunkedCustomArrayList<Integer> list;
+
+    @BeforeEach
+    void init() {
+        list = new ChunkedCustomArrayList<>(8);
+    }
+
+    /**
+     * Тестируется невозможность создания листа с размером блока, не являющимся степенью двойки
+     */
+    @Test
+    void shouldThrowWhileCreation() {
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedCustomArrayList<>(12));
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedCustomArrayList<>(0));
+    }
+
+    /**
+     * Тестируется совпадение со списком ArrayList при случайных вставках, удалениях и заменах
+     */
+    @Test
+    void shouldMatchArrayListOnRandomEdits() {
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(19);
+        for (int i = 0; i < 20_000; i++) {
+            int op = random.nextInt(10);
+            if (op < 3) {
+                list.add(i);
+                expected.add(i);
+            } else if (op < 6 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else if (op < 9) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                list.replace(index, -i);
+                expected.set(index, -i);
+            }
+        }
+        assertEquals(expected.size(), list.size());
+        assertArrayEquals(expected.toArray(), list.toArray());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    /**
+     * Тестируется удаление всех элементов с начала списка
+     */
+    @Test
+    void shouldRemoveAllFromFront() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, list.remove(0));
+        }
+        assertEquals(0, list.size());
+        list.add(0, 1);
+        assertEquals("[1]", list.toString());
+    }
+
+    /**
+     * Тестируется устойчивая сортировка блоков со слиянием и значениями null
+     */
+    @Test
+    void shouldSortAcrossBlocks() {
+        ChunkedCustomArrayList<Integer> sorted = new ChunkedCustomArrayList<>(16, new TimSorter<>());
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 1_000; i++) {
+            Integer value = i % 50 == 0 ? null : random.nextInt(100);
+            sorted.add(0, value);
+            expected.add(0, value);
+        }
+        sorted.sort(Comparator.naturalOrder());
+        expected.sort(Comparator.nullsLast(Comparator.naturalOrder()));
+        assertEquals(expected.size(), sorted.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), sorted.get(i));
+        }
+        sorted.add(-1);
+        sorted.add(0, -2);
+        assertEquals(-2, sorted.get(0));
+        assertEquals(-1, sorted.get(sorted.size() - 1));
+    }
+
+    /**
+     * Тестируется слияние, при котором исчерпанные исходные блоки используются для записи результата:
+     * блоки упорядочены по убыванию и освобождаются по одному
+     */
+    @Test
+    void shouldReuseBlocksWhenMerging() {
+        ChunkedCustomArrayList<Integer> blocks = new ChunkedCustomArrayList<>(16, new IntroSorter<>());
+        for (int i = 999; i >= 0; i--) {
+            blocks.add(i);
+        }
+        blocks.sort(Comparator.naturalOrder());
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(i, blocks.get(i));
+        }
+        for (int i = 0; i < 8; i++) {
+            blocks.add(null);
+        }
+        assertEquals(1_008, blocks.size());
+        assertNull(blocks.get(1_007));
+        assertEquals(999, blocks.get(999));
+    }
+
+    /**
+     * Тестируется выброс ConcurrentModificationException при изменении списка во время итерации
+     */
+    @Test
+    void shouldThrowWhileIterating() {
+        list.add(1);
+        list.add(2);
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.remove(0);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса CircularCustomArrayList
+ */
+class CircularCustomArrayListTest {
+
+    private CircularCustomArrayList<Integer> list;
+
+    @BeforeEach
+    void init() {
+        list = new CircularCustomArrayList<>(4);
+    }
+
+    /**
+     * Тестируется невозможность создания листа с отрицательной емкостью и округление ёмкости до степени двойки
+     */
+    @Test
+    void shouldRoundCapacityAndThrowWhileCreation() {
+        assertThrows(IllegalArgumentException.class, () -> new CircularCustomArrayList<>(-1));
+        assertEquals(8, new CircularCustomArrayList<>(5).capacity());
+        assertEquals(1, new CircularCustomArrayList<>(0).capacity());
+    }
+
+    /**
+     * Тестируется использование списка как очереди с переходом через конец массива
+     */
+    @Test
+    void shouldWorkAsQueue() {
+        for (int i = 0; i < 1_000; i++) {
+            list.add(i);
+            list.add(i);
+            assertEquals(i / 2, list.removeFirst());
+        }
+        assertEquals(1_000, list.size());
+        for (int i = 500; i < 1_000; i++) {
+            assertEquals(i, list.removeFirst());
+            assertEquals(i, list.removeFirst());
+        }
+        assertThrows(NoSuchElementException.class, list::removeFirst);
+        assertThrows(NoSuchElementException.class, list::removeLast);
+    }
+
+    /**
+     * Тестируется совпадение со списком ArrayList при операциях с обоих концов и по индексу
+     */
+    @Test
+    void shouldMatchArrayListOnRandomEdits() {
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(20);
+        for (int i = 0; i < 20_000; i++) {
+            int op = random.nextInt(8);
+            if (op == 0) {
+                list.addFirst(i);
+                expected.add(0, i);
+            } else if (op == 1) {
+                list.add(i);
+                expected.add(i);
+            } else if (op < 4 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else if (op == 4) {
+                assertEquals(expected.remove(0), list.removeFirst());
+            } else if (op == 5) {
+                assertEquals(expected.remove(expected.size() - 1), list.removeLast());
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+        }
+        assertArrayEquals(expected.toArray(), list.toArray());
+    }
+
+    /**
+     * Тестируется сортировка при переходе элементов через конец массива
+     */
+    @Test
+    void shouldSortWrappedElements() {
+        for (int i = 0; i < 4; i++) {
+            list.add(i);
+        }
+        list.removeFirst();
+        list.removeFirst();
+        list.add(-5);
+        list.add(null);
+        list.sort(Comparator.naturalOrder());
+        assertEquals("[-5, 2, 3, null]", list.toString());
+    }
+
+    /**
+     * Тестируется выброс ConcurrentModificationException при изменении списка во время итерации
+     */
+    @Test
+    void shouldThrowWhileIterating() {
+        list.add(1);
+        list.add(2);
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.removeFirst();
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+}
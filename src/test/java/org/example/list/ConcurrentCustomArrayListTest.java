@@ -0,0 +1,193 @@
+package org.example.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса ConcurrentCustomArrayList
+ */
+class ConcurrentCustomArrayListTest {
+
+    private ConcurrentCustomArrayList<Integer> list;
+
+    @BeforeEach
+    void init() {
+        list = new ConcurrentCustomArrayList<>();
+    }
+
+    /**
+     * Тестируется невозможность создания листа с отрицательной емкостью
+     */
+    @Test
+    void shouldThrowWhileCreation() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentCustomArrayList<>(-1));
+    }
+
+    /**
+     * Тестируется добавление, получение, замена и удаление элементов
+     */
+    @Test
+    void shouldAddGetReplaceAndRemove() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        list.add(0, -1);
+        list.replace(1, 100);
+        assertEquals(101, list.size());
+        assertEquals(-1, list.get(0));
+        assertEquals(100, list.remove(1));
+        assertEquals(1, list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(100));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    /**
+     * Тестируется сортировка и пакетные операции
+     */
+    @Test
+    void shouldSortAndApplyBulkOperations() {
+        list.addAll(List.of(5, 3, 1));
+        list.addAll(0, new Integer[]{4, 2});
+        list.sort(Integer::compareTo);
+        assertArrayEquals(new Object[]{1, 2, 3, 4, 5}, list.toArray());
+        list.removeRange(0, 2);
+        assertTrue(list.removeIf(i -> i == 4));
+        assertEquals("[3, 5]", list.toString());
+    }
+
+    /**
+     * Тестируется неизменность списка, если условие удаления выбросило исключение
+     */
+    @Test
+    void shouldKeepListWhenRemoveIfFilterThrows() {
+        list.addAll(List.of(0, 1, 2, 3, 4, 5));
+        assertThrows(IllegalStateException.class, () -> list.removeIf(i -> {
+            if (i == 4) {
+                throw new IllegalStateException();
+            }
+            return i == 1;
+        }));
+        assertArrayEquals(new Object[]{0, 1, 2, 3, 4, 5}, list.toArray());
+    }
+
+    /**
+     * Тестируется итерация по списку
+     */
+    @Test
+    void shouldIterate() {
+        list.addAll(List.of(1, 2, 3));
+        List<Integer> result = new ArrayList<>();
+        for (Integer i : list) {
+            result.add(i);
+        }
+        assertEquals(List.of(1, 2, 3), result);
+    }
+
+    /**
+     * Тестируется отсутствие ConcurrentModificationException при изменении списка во время итерации
+     */
+    @Test
+    void shouldNotThrowWhileModifiedDuringIteration() {
+        list.addAll(List.of(1, 2, 3));
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.add(4);
+        assertDoesNotThrow(iterator::next);
+    }
+
+    /**
+     * Тестируется одновременное добавление элементов из нескольких потоков при одновременном чтении
+     */
+    @Test
+    void shouldAddConcurrently() throws Exception {
+        int writers = 4;
+        int perWriter = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 2);
+        AtomicBoolean done = new AtomicBoolean();
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                readers.add(executor.submit(() -> {
+                    while (!done.get()) {
+                        int size = list.size();
+                        if (size > 0) {
+                            assertNotNull(list.get(size - 1));
+                        }
+                    }
+                }));
+            }
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perWriter; i++) {
+                        list.add(i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            done.set(true);
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(writers * perWriter, list.size());
+    }
+
+    /**
+     * Тестируется поиск элементов во время одновременного добавления и удаления
+     */
+    @Test
+    void shouldLookUpWhileModifiedConcurrently() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            list.add(i);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        AtomicBoolean done = new AtomicBoolean();
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                readers.add(executor.submit(() -> {
+                    while (!done.get()) {
+                        assertEquals(-1, list.indexOf(-1));
+                        assertEquals(-1, list.lastIndexOf(-1));
+                        assertFalse(list.contains(-1));
+                    }
+                }));
+            }
+            executor.submit(() -> {
+                Integer[] batch = new Integer[1_000];
+                Arrays.fill(batch, 0);
+                for (int i = 0; i < 5_000; i++) {
+                    list.addAll(batch);
+                    list.removeRange(50, 50 + batch.length);
+                    list.add(i);
+                    list.remove(0);
+                }
+            }).get();
+            done.set(true);
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(50, list.size());
+        assertEquals(49, list.indexOf(4_999));
+        assertTrue(list.contains(4_950));
+    }
+}
@@ -0,0 +1,134 @@
+package org.example.list;
+
+import org.example.list.api.ICustomArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса CopyOnWriteCustomArrayList
+ */
+class CopyOnWriteCustomArrayListTest {
+
+    private CopyOnWriteCustomArrayList<Integer> list;
+
+    @BeforeEach
+    void init() {
+        list = new CopyOnWriteCustomArrayList<>();
+        list.addAll(List.of(3, 1, 2));
+    }
+
+    /**
+     * Тестируется неизменность снимка после изменения элементов списка
+     */
+    @Test
+    void shouldKeepSnapshotAfterModification() {
+        ICustomArrayList<Integer> snapshot = list.snapshot();
+        list.replace(0, 10);
+        list.add(0, 20);
+        list.remove(1);
+        list.sort(Integer::compareTo);
+        assertEquals("[3, 1, 2]", snapshot.toString());
+        assertEquals("[1, 2, 20]", list.toString());
+    }
+
+    /**
+     * Тестируется неизменность снимка после добавления в конец и очищения списка
+     */
+    @Test
+    void shouldKeepSnapshotAfterAppendAndClear() {
+        ICustomArrayList<Integer> snapshot = list.snapshot();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        assertEquals(3, snapshot.size());
+        list.clear();
+        assertEquals("[3, 1, 2]", snapshot.toString());
+        assertEquals(0, list.size());
+    }
+
+    /**
+     * Тестируется неизменность списка, если условие удаления выбросило исключение, и неизменность снимка
+     * после удаления элементов по условию
+     */
+    @Test
+    void shouldKeepListWhenRemoveIfFilterThrows() {
+        list.addAll(List.of(0, 4, 5));
+        assertThrows(IllegalStateException.class, () -> list.removeIf(i -> {
+            if (i == 4) {
+                throw new IllegalStateException();
+            }
+            return i == 1;
+        }));
+        assertEquals("[3, 1, 2, 0, 4, 5]", list.toString());
+        ICustomArrayList<Integer> snapshot = list.snapshot();
+        assertTrue(list.removeIf(i -> i == 1 || i == 4));
+        assertEquals("[3, 2, 0, 5]", list.toString());
+        assertEquals("[3, 1, 2, 0, 4, 5]", snapshot.toString());
+    }
+
+    /**
+     * Тестируется поиск элементов в списке
+     */
+    @Test
+    void shouldLookUpElements() {
+        list.addAll(List.of(1, 4));
+        assertEquals(1, list.indexOf(1));
+        assertEquals(3, list.lastIndexOf(1));
+        assertTrue(list.contains(4));
+        assertFalse(list.contains(5));
+        assertEquals(-1, list.indexOf(null));
+    }
+
+    /**
+     * Тестируется невозможность изменения снимка
+     */
+    @Test
+    void shouldThrowWhileModifyingSnapshot() {
+        ICustomArrayList<Integer> snapshot = list.snapshot();
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(1));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.replace(0, 1));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.sort(Integer::compareTo));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.removeIf(i -> true));
+    }
+
+    /**
+     * Тестируется отсутствие ConcurrentModificationException при изменении списка во время итерации
+     */
+    @Test
+    void shouldIterateOverSnapshotWhileModified() {
+        Iterator<Integer> iterator = list.iterator();
+        list.clear();
+        list.add(5);
+        assertEquals(3, iterator.next());
+        assertEquals(1, iterator.next());
+        assertEquals(2, iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    /**
+     * Тестируется копирование массива только при удалении хотя бы одного элемента
+     */
+    @Test
+    void shouldRemoveIfWithoutAffectingSnapshot() {
+        ICustomArrayList<Integer> snapshot = list.snapshot();
+        assertFalse(list.removeIf(i -> i > 10));
+        assertTrue(list.removeIf(i -> i < 3));
+        assertEquals("[3]", list.toString());
+        assertEquals("[3, 1, 2]", snapshot.toString());
+    }
+
+    /**
+     * Тестируется обработка снимка параллельным потоком
+     */
+    @Test
+    void shouldStreamSnapshot() {
+        ICustomArrayList<Integer> snapshot = list.snapshot();
+        list.replace(0, 100);
+        assertEquals(6, snapshot.parallelStream().mapToInt(Integer::intValue).sum());
+    }
+}
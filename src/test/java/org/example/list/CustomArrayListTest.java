@@ -1,11 +1,36 @@
 package org.example.list;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.list.api.ListMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
 import java.util.Random;
+import java.util.Spliterator;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -140,6 +165,20 @@ class CustomArrayListTest {
         assertEquals(expected, target);
     }
 
+    /**
+     * Тестируется удаление последнего элемента из полностью заполненного массива
+     */
+    @Test
+    void shouldRemoveLastFromFullArray() {
+        CustomArrayList<Integer> full = new CustomArrayList<>(3);
+        full.add(1);
+        full.add(2);
+        full.add(3);
+        assertEquals(3, full.remove(2));
+        assertEquals(2, full.size());
+        assertEquals(2, full.get(1));
+    }
+
     /**
      * Тестируется удаление 10_000 элементов из случайных позиций списка
      */
@@ -200,6 +239,36 @@ class CustomArrayListTest {
         assertEquals(unsortedList, customArrayList);
     }
 
+    /**
+     * Тестируется сортировка списка с большой свободной ёмкостью и null элементами
+     */
+    @Test
+    void shouldSortOnlyElementsOfList() {
+        CustomArrayList<Integer> target = new CustomArrayList<>(1_000);
+        target.add(3);
+        target.add(null);
+        target.add(1);
+        target.add(2);
+        target.sort(Integer::compareTo);
+        assertEquals(4, target.size());
+        assertEquals("[1, 2, 3, null]", target.toString());
+    }
+
+    /**
+     * Тестируется параллельная сортировка списка
+     */
+    @Test
+    void shouldParallelSort() {
+        final Random random = new Random();
+        for (int i = 0; i < 100_000; i++) {
+            customArrayList.add(random.nextInt());
+        }
+        customArrayList.parallelSort(Integer::compareTo);
+        for (int i = 1; i < customArrayList.size(); i++) {
+            assertTrue(customArrayList.get(i - 1) <= customArrayList.get(i));
+        }
+    }
+
     /**
      * Тестируется замена 1000 элемента в случайной позиции
      */
@@ -302,6 +371,551 @@ class CustomArrayListTest {
         assertThrows(ConcurrentModificationException.class, iterator::next);
     }
 
+    /**
+     * Тестируется добавление коллекции, массива и другого списка в конец списка
+     */
+    @Test
+    void shouldAddAllToEnd() {
+        customArrayList.add(0);
+        customArrayList.addAll(List.of(1, 2));
+        customArrayList.addAll(new Integer[]{3, 4});
+        customArrayList.addAll(createListOfNumbers(5, 6));
+        assertEquals(createListOfNumbers(0, 1, 2, 3, 4, 5, 6), customArrayList);
+    }
+
+    /**
+     * Тестируется добавление коллекции, массива и другого списка в середину списка
+     */
+    @Test
+    void shouldAddAllByIndex() {
+        CustomArrayList<Integer> target = createListOfNumbers(0, 9);
+        target.addAll(1, List.of(7, 8));
+        target.addAll(1, new Integer[]{5, 6});
+        target.addAll(1, createListOfNumbers(1, 2, 3, 4));
+        assertEquals(createListOfNumbers(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), target);
+    }
+
+    /**
+     * Тестируется добавление списка в самого себя
+     */
+    @Test
+    void shouldAddAllOfItself() {
+        CustomArrayList<Integer> target = createListOfNumbers(1, 2, 3);
+        target.addAll(1, target);
+        assertEquals(createListOfNumbers(1, 1, 2, 3, 2, 3), target);
+    }
+
+    /**
+     * Тестируется сохранение итератора после добавления пустой коллекции
+     */
+    @Test
+    void shouldKeepIteratorAfterAddingEmptyCollection() {
+        fillList(3);
+        Iterator<Integer> iterator = customArrayList.iterator();
+        iterator.next();
+        customArrayList.addAll(List.of());
+        customArrayList.addAll(1, new Integer[0]);
+        assertEquals(1, iterator.next());
+    }
+
+    /**
+     * Тестируется невозможность пакетного добавления по индексу за пределами списка
+     */
+    @Test
+    void shouldThrowWhileAddAllInOutOfSizePosition() {
+        assertThrows(IndexOutOfBoundsException.class, () -> customArrayList.addAll(1, List.of(1)));
+    }
+
+    /**
+     * Тестируется удаление диапазона элементов
+     */
+    @Test
+    void shouldRemoveRange() {
+        CustomArrayList<Integer> target = createListOfNumbers(0, 1, 2, 3, 4, 5);
+        target.removeRange(1, 4);
+        assertEquals(createListOfNumbers(0, 4, 5), target);
+        assertThrows(IndexOutOfBoundsException.class, () -> target.removeRange(2, 4));
+    }
+
+    /**
+     * Тестируется удаление элементов по условию
+     */
+    @Test
+    void shouldRemoveIf() {
+        fillList(10);
+        assertTrue(customArrayList.removeIf(i -> i % 2 == 0));
+        assertFalse(customArrayList.removeIf(i -> i > 100));
+        assertEquals(createListOfNumbers(1, 3, 5, 7, 9), customArrayList);
+    }
+
+    /**
+     * Тестируется неизменность списка, если условие удаления выбросило исключение
+     */
+    @Test
+    void shouldKeepListWhenRemoveIfFilterThrows() {
+        fillList(6);
+        assertThrows(IllegalStateException.class, () -> customArrayList.removeIf(i -> {
+            if (i == 4) {
+                throw new IllegalStateException();
+            }
+            return i == 1;
+        }));
+        assertEquals(createListOfNumbers(0, 1, 2, 3, 4, 5), customArrayList);
+    }
+
+    /**
+     * Тестируется предварительное расширение и уменьшение ёмкости до размера списка
+     */
+    @Test
+    void shouldEnsureCapacityAndTrimToSize() {
+        customArrayList.ensureCapacity(1_000);
+        assertEquals(1_000, customArrayList.capacity());
+        fillList(5);
+        customArrayList.trimToSize();
+        assertEquals(5, customArrayList.capacity());
+        customArrayList.add(5);
+        assertEquals(createListOfNumbers(0, 1, 2, 3, 4, 5), customArrayList);
+    }
+
+    /**
+     * Тестируется невалидность итератора после уменьшения ёмкости списка
+     */
+    @Test
+    void shouldFailIteratorAfterTrimToSize() {
+        fillList(5);
+        customArrayList.ensureCapacity(100);
+        Iterator<Integer> iterator = customArrayList.iterator();
+        iterator.next();
+        customArrayList.trimToSize();
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    /**
+     * Тестируется расширение в соответствии с переданной политикой
+     */
+    @Test
+    void shouldGrowWithPolicy() {
+        CustomArrayList<Integer> target = new CustomArrayList<>(GrowthPolicies.fixedIncrement(5));
+        for (int i = 0; i < 11; i++) {
+            target.add(i);
+        }
+        assertEquals(15, target.capacity());
+    }
+
+    /**
+     * Тестируется возврат памяти после очищения и удаления при политике с уменьшением ёмкости
+     */
+    @Test
+    void shouldShrinkAfterClearAndRemove() {
+        CustomArrayList<Integer> target = new CustomArrayList<>(GrowthPolicies.shrinking(GrowthPolicies.oneAndHalf(), 10));
+        for (int i = 0; i < 10_000; i++) {
+            target.add(i);
+        }
+        target.removeRange(100, 10_000);
+        assertEquals(200, target.capacity());
+        assertEquals(99, target.get(99));
+        target.clear();
+        assertEquals(10, target.capacity());
+    }
+
+    /**
+     * Тестируется последовательная и параллельная обработка списка потоками
+     */
+    @Test
+    void shouldStreamSequentiallyAndInParallel() {
+        fillList(100_000);
+        long expected = 100_000L * 99_999 / 2;
+        assertEquals(expected, customArrayList.stream().mapToLong(Integer::longValue).sum());
+        assertEquals(expected, customArrayList.parallelStream().mapToLong(Integer::longValue).sum());
+    }
+
+    /**
+     * Тестируется равномерное деление списка и характеристики Spliterator
+     */
+    @Test
+    void shouldSplitEvenly() {
+        fillList(100);
+        Spliterator<Integer> spliterator = customArrayList.spliterator();
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertEquals(50, prefix.estimateSize());
+        assertEquals(50, spliterator.estimateSize());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+    }
+
+    /**
+     * Тестируется невозможность модификации списка во время обхода Spliterator
+     */
+    @Test
+    void shouldThrowWhileSplitting() {
+        fillList(10);
+        Spliterator<Integer> spliterator = customArrayList.spliterator();
+        assertThrows(ConcurrentModificationException.class, () -> spliterator.forEachRemaining(customArrayList::add));
+    }
+
+    /**
+     * Тестируется внутренняя итерация по всему списку, по диапазону и с индексом
+     */
+    @Test
+    void shouldIterateInternally() {
+        fillList(10);
+        int[] sum = new int[1];
+        customArrayList.forEach(i -> sum[0] += i);
+        assertEquals(45, sum[0]);
+        sum[0] = 0;
+        customArrayList.forEachRange(2, 5, i -> sum[0] += i);
+        assertEquals(9, sum[0]);
+        customArrayList.forEachIndexed((index, e) -> assertEquals(index, e));
+        assertThrows(IndexOutOfBoundsException.class, () -> customArrayList.forEachRange(5, 11, i -> {
+        }));
+    }
+
+    /**
+     * Тестируется невозможность модификации списка во время внутренней итерации
+     */
+    @Test
+    void shouldThrowWhileIteratingInternally() {
+        fillList(10);
+        assertThrows(ConcurrentModificationException.class, () -> customArrayList.forEach(i -> customArrayList.replace(0, i)));
+    }
+
+    /**
+     * Тестируется запись и чтение списка в двоичном виде фиксированного размера
+     */
+    @Test
+    void shouldWriteAndReadFixed() throws IOException {
+        fillList(100_000);
+        customArrayList.add(0, Integer.MIN_VALUE);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        customArrayList.writeTo(out, ElementCodecs.ofInt());
+
+        CustomArrayList<Integer> read = CustomArrayList.readFrom(new ByteArrayInputStream(out.toByteArray()), ElementCodecs.ofInt());
+        assertEquals(100_001, read.size());
+        assertEquals(100_001, read.capacity());
+        assertArrayEquals(customArrayList.toArray(), read.toArray());
+    }
+
+    /**
+     * Тестируется разностная запись отсортированного списка и чтение списка с отрицательными разностями
+     */
+    @Test
+    void shouldWriteAndReadDeltaVarint() throws IOException {
+        fillList(100_000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        customArrayList.writeTo(out, ElementCodecs.ofInt(), BinaryEncoding.DELTA_VARINT);
+        assertTrue(out.size() < 100_000 + 64);
+        CustomArrayList<Integer> read = CustomArrayList.readFrom(new ByteArrayInputStream(out.toByteArray()), ElementCodecs.ofInt());
+        assertArrayEquals(customArrayList.toArray(), read.toArray());
+
+        CustomArrayList<Long> longs = new CustomArrayList<>();
+        longs.addAll(new Long[]{Long.MAX_VALUE, Long.MIN_VALUE, 0L, -5L, 7L});
+        out.reset();
+        longs.writeTo(out, ElementCodecs.ofLong(), BinaryEncoding.DELTA_VARINT);
+        CustomArrayList<Long> readLongs = CustomArrayList.readFrom(new ByteArrayInputStream(out.toByteArray()), ElementCodecs.ofLong());
+        assertArrayEquals(longs.toArray(), readLongs.toArray());
+    }
+
+    /**
+     * Тестируется чтение нескольких списков и других данных, записанных в один поток друг за другом
+     */
+    @Test
+    void shouldReadListsWrittenBackToBack() throws IOException {
+        fillList(100_000);
+        CustomArrayList<Integer> small = createListOfNumbers(-5, 7, 3);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        customArrayList.writeTo(out, ElementCodecs.ofInt());
+        small.writeTo(out, ElementCodecs.ofInt(), BinaryEncoding.DELTA_VARINT);
+        out.writeInt(42);
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertArrayEquals(customArrayList.toArray(), CustomArrayList.readFrom(in, ElementCodecs.ofInt()).toArray());
+        assertArrayEquals(small.toArray(), CustomArrayList.readFrom(in, ElementCodecs.ofInt()).toArray());
+        assertEquals(42, in.readInt());
+        assertEquals(0, in.available());
+    }
+
+    /**
+     * Тестируется отказ чтения заголовка с поддельным количеством элементов без выделения массива под него
+     */
+    @Test
+    void shouldRejectForgedElementCount() {
+        ByteBuffer header = ByteBuffer.allocate(22).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(0x43414C53).put((byte) 2).put((byte) BinaryEncoding.FIXED.ordinal())
+                .putInt(Integer.BYTES).putInt(Integer.MAX_VALUE - 8).putLong(16);
+        assertThrows(StreamCorruptedException.class,
+                () -> CustomArrayList.readFrom(new ByteArrayInputStream(header.array()), ElementCodecs.ofInt()));
+
+        header.put(5, (byte) BinaryEncoding.DELTA_VARINT.ordinal()).putLong(14, Long.MAX_VALUE);
+        assertThrows(EOFException.class,
+                () -> CustomArrayList.readFrom(new ByteArrayInputStream(header.array()), ElementCodecs.ofInt()));
+    }
+
+    /**
+     * Тестируется отказ чтения обрезанного потока и разностной записи нецелочисленных элементов
+     */
+    @Test
+    void shouldRejectInvalidSerialization() throws IOException {
+        fillList(10);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        customArrayList.writeTo(out, ElementCodecs.ofInt());
+        byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() - 1);
+        assertThrows(EOFException.class, () -> CustomArrayList.readFrom(new ByteArrayInputStream(truncated), ElementCodecs.ofInt()));
+        assertThrows(IllegalArgumentException.class, () -> CustomArrayList.readFrom(new ByteArrayInputStream(out.toByteArray()), ElementCodecs.ofLong()));
+
+        CustomArrayList<Double> doubles = new CustomArrayList<>();
+        doubles.add(1.0);
+        assertThrows(IllegalArgumentException.class, () -> doubles.writeTo(out, ElementCodecs.ofDouble(), BinaryEncoding.DELTA_VARINT));
+    }
+
+    /**
+     * Тестируется линейный поиск элементов без индекса
+     */
+    @Test
+    void shouldFindElementsWithoutIndex() {
+        customArrayList.addAll(new Integer[]{1, 2, null, 2, 3});
+        assertEquals(1, customArrayList.indexOf(2));
+        assertEquals(3, customArrayList.lastIndexOf(2));
+        assertEquals(2, customArrayList.indexOf(null));
+        assertFalse(customArrayList.contains(4));
+    }
+
+    /**
+     * Тестируется совпадение результатов поиска по индексу с линейным поиском при случайных изменениях
+     */
+    @Test
+    void shouldKeepIndexInSync() {
+        CustomArrayList<Integer> indexed = new CustomArrayList<>();
+        indexed.enableIndex();
+        Random random = new Random(22);
+        for (int i = 0; i < 5_000; i++) {
+            int op = random.nextInt(12);
+            Integer value = random.nextInt(50) == 0 ? null : random.nextInt(300);
+            if (op < 5 || customArrayList.size() == 0) {
+                indexed.add(value);
+                customArrayList.add(value);
+            } else if (op == 5) {
+                int index = random.nextInt(customArrayList.size() + 1);
+                indexed.add(index, value);
+                customArrayList.add(index, value);
+            } else if (op == 6) {
+                int index = random.nextInt(customArrayList.size());
+                indexed.remove(index);
+                customArrayList.remove(index);
+            } else if (op == 7) {
+                indexed.remove(indexed.size() - 1);
+                customArrayList.remove(customArrayList.size() - 1);
+            } else if (op < 10) {
+                int index = random.nextInt(customArrayList.size());
+                indexed.replace(index, value);
+                customArrayList.replace(index, value);
+            } else if (op == 10) {
+                indexed.addAll(new Integer[]{value, value});
+                customArrayList.addAll(new Integer[]{value, value});
+            } else if (random.nextInt(20) == 0) {
+                indexed.clear();
+                customArrayList.clear();
+            }
+            Integer probe = random.nextInt(10) == 0 ? null : random.nextInt(300);
+            assertEquals(linearIndexOf(probe), indexed.indexOf(probe));
+            assertEquals(customArrayList.lastIndexOf(probe), indexed.lastIndexOf(probe));
+        }
+        indexed.sort(Comparator.nullsFirst(Comparator.naturalOrder()));
+        assertEquals(0, indexed.indexOf(indexed.get(0)));
+        assertTrue(indexed.indexFootprint() > 0);
+        indexed.disableIndex();
+        assertEquals(0, indexed.indexFootprint());
+    }
+
+    private int linearIndexOf(Integer value) {
+        for (int i = 0; i < customArrayList.size(); i++) {
+            if (Objects.equals(value, customArrayList.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Тестируется сбор метрик расширений, смещений и сортировок
+     */
+    @Test
+    void shouldCollectMetrics() throws Exception {
+        ListMetrics metrics = customArrayList.enableMetrics();
+        fillList(100);
+        customArrayList.add(0, -1);
+        customArrayList.remove(0);
+        customArrayList.sort(Comparator.reverseOrder());
+
+        assertTrue(metrics.getReallocations() > 0);
+        assertEquals(200, metrics.getShiftedElements());
+        assertEquals(1, metrics.getSorts());
+        assertTrue(metrics.getComparisons() >= 99);
+        assertTrue(metrics.getSwaps() > 0);
+        assertTrue(metrics.getMaxRecursionDepth() >= 1);
+        assertEquals(metrics.getCapacity() - 100, metrics.getWastedCapacity());
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("org.example.list:type=ListMetrics,name=test");
+        server.registerMBean(metrics, name);
+        try {
+            assertEquals(1L, server.getAttribute(name, "Sorts"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    /**
+     * Тестируется запись событий JFR расширения массива и сортировки
+     */
+    @Test
+    void shouldRecordJfrEvents() throws Exception {
+        Path file = Files.createTempFile("list", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.example.list.Grow");
+            recording.enable("org.example.list.Sort");
+            recording.start();
+            fillList(100);
+            customArrayList.sort(Comparator.naturalOrder());
+            recording.stop();
+            recording.dump(file);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("org.example.list.Grow")));
+            assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("org.example.list.Sort")
+                    && e.getInt("size") == 100));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Тестируется выбор k-го по порядку элемента
+     */
+    @Test
+    void shouldSelectKthElement() {
+        Random random = new Random(24);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            Integer value = i % 100 == 0 ? null : random.nextInt(500);
+            customArrayList.add(value);
+            expected.add(value);
+        }
+        expected.sort(Comparator.nullsLast(Comparator.naturalOrder()));
+        for (int k : new int[]{0, 1, 4_999, 9_899, 9_900, 9_999}) {
+            assertEquals(expected.get(k), customArrayList.select(k, Comparator.naturalOrder()));
+        }
+        Integer median = customArrayList.select(5_000, Comparator.naturalOrder());
+        for (int i = 0; i < 5_000; i++) {
+            assertTrue(customArrayList.get(i) <= median);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> customArrayList.select(10_000, Comparator.naturalOrder()));
+    }
+
+    /**
+     * Тестируется частичная сортировка и выбор k наименьших элементов
+     */
+    @Test
+    void shouldPartialSortAndTopK() {
+        Random random = new Random(25);
+        CustomArrayList<Integer> heap = new CustomArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            Integer value = i % 1_000 == 0 ? null : random.nextInt(2_000);
+            customArrayList.add(value);
+            heap.add(value);
+            expected.add(value);
+        }
+        expected.sort(Comparator.nullsLast(Comparator.reverseOrder()));
+        customArrayList.partialSort(100, Comparator.reverseOrder());
+        heap.topK(100, Comparator.reverseOrder());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(expected.get(i), customArrayList.get(i));
+            assertEquals(expected.get(i), heap.get(i));
+        }
+
+        heap.topK(10_000, Comparator.naturalOrder());
+        expected.sort(Comparator.nullsLast(Comparator.naturalOrder()));
+        assertArrayEquals(expected.toArray(), heap.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> heap.partialSort(10_001, Comparator.naturalOrder()));
+    }
+
+    /**
+     * Тестируется отслеживание порядка: повторная сортировка тем же компаратором не выполняется,
+     * добавления с сохранением порядка его не сбрасывают
+     */
+    @Test
+    void shouldSkipRedundantSort() {
+        ListMetrics metrics = customArrayList.enableMetrics();
+        customArrayList.addAll(new Integer[]{5, 3, 9, 1});
+        assertFalse(customArrayList.isSortedBy(Comparator.naturalOrder()));
+        customArrayList.sort(Comparator.naturalOrder());
+        assertTrue(customArrayList.isSortedBy(Comparator.naturalOrder()));
+
+        Iterator<Integer> iterator = customArrayList.iterator();
+        customArrayList.sort(Comparator.naturalOrder());
+        assertEquals(1, iterator.next());
+        assertEquals(1, metrics.getSorts());
+
+        customArrayList.add(9);
+        customArrayList.add(null);
+        customArrayList.add(1, 2);
+        customArrayList.addAll(new Integer[]{null, null});
+        customArrayList.remove(0);
+        customArrayList.sort(Comparator.naturalOrder());
+        assertEquals(1, metrics.getSorts());
+        assertEquals("[2, 3, 5, 9, 9, null, null, null]", customArrayList.toString());
+
+        customArrayList.replace(0, 10);
+        assertFalse(customArrayList.isSortedBy(Comparator.naturalOrder()));
+        customArrayList.sort(Comparator.naturalOrder());
+        assertEquals(2, metrics.getSorts());
+        assertEquals("[3, 5, 9, 9, 10, null, null, null]", customArrayList.toString());
+
+        customArrayList.sort(Comparator.reverseOrder());
+        assertEquals(3, metrics.getSorts());
+        assertFalse(customArrayList.isSortedBy(Comparator.naturalOrder()));
+    }
+
+    /**
+     * Тестируется отложенная сортировка: запросы сортировки и добавления объединяются в одну сортировку,
+     * которая выполняется при чтении
+     */
+    @Test
+    void shouldDeferLazySortUntilRead() {
+        ListMetrics metrics = customArrayList.enableMetrics();
+        customArrayList.addAll(new Integer[]{5, 3, 9});
+        customArrayList.lazySort(Comparator.naturalOrder());
+        customArrayList.add(1);
+        customArrayList.lazySort(Comparator.reverseOrder());
+        customArrayList.add(7);
+        customArrayList.lazySort(Comparator.naturalOrder());
+        assertTrue(customArrayList.isSortedBy(Comparator.naturalOrder()));
+        assertEquals(0, metrics.getSorts());
+
+        assertEquals(1, customArrayList.get(0));
+        assertArrayEquals(new Object[]{1, 3, 5, 7, 9}, customArrayList.toArray());
+        assertEquals(1, metrics.getSorts());
+
+        customArrayList.lazySort(Comparator.naturalOrder());
+        customArrayList.add(0);
+        customArrayList.lazySort(Comparator.naturalOrder());
+        assertEquals(4, customArrayList.indexOf(7));
+        assertEquals(2, metrics.getSorts());
+
+        Iterator<Integer> iterator = customArrayList.iterator();
+        customArrayList.lazySort(Comparator.reverseOrder());
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        customArrayList.remove(0);
+        assertEquals("[7, 5, 3, 1, 0]", customArrayList.toString());
+
+        customArrayList.lazySort(Comparator.naturalOrder());
+        customArrayList.sort(Comparator.reverseOrder());
+        assertEquals(3, metrics.getSorts());
+        customArrayList.lazySort(Comparator.naturalOrder());
+        customArrayList.clear();
+        assertEquals(0, customArrayList.size());
+        assertEquals(3, metrics.getSorts());
+    }
+
     private void fillList(int number) {
         for (int i = 0; i < number; i++) {
             customArrayList.add(i);
@@ -0,0 +1,136 @@
+package org.example.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса DoubleCustomArrayList
+ */
+class DoubleCustomArrayListTest {
+
+    private DoubleCustomArrayList list;
+
+    @BeforeEach
+    void init() {
+        list = new DoubleCustomArrayList();
+    }
+
+    /**
+     * Тестируется невозможность создания листа с отрицательной емкостью
+     */
+    @Test
+    void shouldThrowWhileCreation() {
+        assertThrows(IllegalArgumentException.class, () -> new DoubleCustomArrayList(-1));
+    }
+
+    /**
+     * Тестируется добавление, получение и замена элементов
+     */
+    @Test
+    void shouldAddGetAndReplace() {
+        for (int i = 0; i < 1_000; i++) {
+            list.addDouble(i);
+        }
+        list.replaceDouble(500, -1);
+        assertEquals(1_000, list.size());
+        assertEquals((double) 999, list.getDouble(999));
+        assertEquals((double) -1, list.getDouble(500));
+    }
+
+    /**
+     * Тестируется добавление и удаление элементов по индексу
+     */
+    @Test
+    void shouldInsertAndRemoveByIndex() {
+        list.addDouble(1);
+        list.addDouble(3);
+        list.addDouble(1, 2);
+        list.addDouble(0, 0);
+        assertArrayEquals(new double[]{0, 1, 2, 3}, list.toDoubleArray());
+        assertEquals((double) 2, list.removeDouble(2));
+        assertArrayEquals(new double[]{0, 1, 3}, list.toDoubleArray());
+    }
+
+    /**
+     * Тестируется невозможность обращения по индексу за пределами списка
+     */
+    @Test
+    void shouldThrowWhenIndexOutOfSize() {
+        list.addDouble(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getDouble(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeDouble(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addDouble(2, 1));
+    }
+
+    /**
+     * Тестируется очищение списка
+     */
+    @Test
+    void shouldClear() {
+        list.addDouble(1);
+        list.clear();
+        assertEquals(0, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getDouble(0));
+    }
+
+    /**
+     * Тестируется сортировка случайных значений, включая отрицательные
+     */
+    @Test
+    void shouldSortRandomValues() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            list.addDouble(random.nextGaussian());
+        }
+        double[] expected = list.toDoubleArray();
+        Arrays.sort(expected);
+        list.sort();
+        assertArrayEquals(expected, list.toDoubleArray());
+    }
+
+    /**
+     * Тестируется сортировка короткого списка
+     */
+    @Test
+    void shouldSortSmallList() {
+        list.addDouble(3);
+        list.addDouble(-1);
+        list.addDouble(2);
+        list.sort();
+        assertArrayEquals(new double[]{-1, 2, 3}, list.toDoubleArray());
+    }
+
+    /**
+     * Тестируется порядок специальных значений при сортировке
+     */
+    @Test
+    void shouldSortSpecialValuesLikeDoubleCompare() {
+        double[] values = {Double.NaN, 0.0, -0.0, Double.POSITIVE_INFINITY, -1.5, Double.NEGATIVE_INFINITY, 1.5};
+        for (int i = 0; i < 20; i++) {
+            for (double value : values) {
+                list.addDouble(value);
+            }
+        }
+        double[] expected = list.toDoubleArray();
+        Arrays.sort(expected);
+        list.sort();
+        assertArrayEquals(expected, list.toDoubleArray());
+    }
+
+    /**
+     * Тестируется равенство списков с одинаковыми элементами и разной емкостью
+     */
+    @Test
+    void shouldBeEqualWithDifferentCapacity() {
+        DoubleCustomArrayList other = new DoubleCustomArrayList(100);
+        list.addDouble(1);
+        other.addDouble(1);
+        assertEquals(list, other);
+        assertEquals(list.hashCode(), other.hashCode());
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса GapBufferCustomArrayList
+ */
+class GapBufferCustomArrayListTest {
+
+    private GapBufferCustomArrayList<Integer> list;
+
+    @BeforeEach
+    void init() {
+        list = new GapBufferCustomArrayList<>();
+    }
+
+    /**
+     * Тестируется невозможность создания листа с отрицательной емкостью
+     */
+    @Test
+    void shouldThrowWhileCreation() {
+        assertThrows(IllegalArgumentException.class, () -> new GapBufferCustomArrayList<>(-1));
+    }
+
+    /**
+     * Тестируется совпадение со списком ArrayList при случайных вставках, удалениях и заменах
+     */
+    @Test
+    void shouldMatchArrayListOnRandomEdits() {
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(18);
+        for (int i = 0; i < 20_000; i++) {
+            int op = random.nextInt(10);
+            if (op < 5 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else if (op < 8) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                list.replace(index, -i);
+                expected.set(index, -i);
+            }
+        }
+        assertEquals(expected.size(), list.size());
+        assertArrayEquals(expected.toArray(), list.toArray());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    /**
+     * Тестируется редактирование вокруг перемещающегося курсора и удаление диапазона
+     */
+    @Test
+    void shouldEditAroundCursorAndRemoveRange() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        list.add(5, 50);
+        list.add(6, 51);
+        list.remove(2);
+        list.add(1, 10);
+        list.removeRange(6, 9);
+        assertEquals("[0, 10, 1, 3, 4, 50, 7, 8, 9]", list.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(10, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(9));
+    }
+
+    /**
+     * Тестируется сортировка при разрыве в середине списка
+     */
+    @Test
+    void shouldSortWithGapInMiddle() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i % 2 == 0 ? i : -i);
+        }
+        list.add(50, null);
+        list.remove(10);
+        list.sort(Comparator.naturalOrder());
+        assertNull(list.get(list.size() - 1));
+        for (int i = 1; i < list.size() - 1; i++) {
+            assertTrue(list.get(i - 1) <= list.get(i));
+        }
+    }
+
+    /**
+     * Тестируется очистка списка
+     */
+    @Test
+    void shouldClear() {
+        for (int i = 0; i < 100; i++) {
+            list.add(0, i);
+        }
+        list.clear();
+        assertEquals(0, list.size());
+        list.add(1);
+        assertEquals("[1]", list.toString());
+    }
+
+    /**
+     * Тестируется выброс ConcurrentModificationException при изменении списка во время итерации
+     */
+    @Test
+    void shouldThrowWhileIterating() {
+        list.add(1);
+        list.add(2);
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.add(0, 3);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.list;
+
+import org.example.list.api.GrowthPolicy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Тесты для GrowthPolicies
+ */
+class GrowthPoliciesTest {
+
+    /**
+     * Тестируется расширение в полтора раза и до 10 элементов для пустого массива
+     */
+    @Test
+    void shouldGrowOneAndHalf() {
+        GrowthPolicy policy = GrowthPolicies.oneAndHalf();
+        assertEquals(10, policy.grow(0, 1));
+        assertEquals(150, policy.grow(100, 101));
+        assertEquals(500, policy.grow(100, 500));
+    }
+
+    /**
+     * Тестируется удвоение ёмкости
+     */
+    @Test
+    void shouldGrowDoubling() {
+        assertEquals(200, GrowthPolicies.doubling().grow(100, 101));
+    }
+
+    /**
+     * Тестируется расширение на фиксированное количество элементов
+     */
+    @Test
+    void shouldGrowFixedIncrement() {
+        GrowthPolicy policy = GrowthPolicies.fixedIncrement(16);
+        assertEquals(116, policy.grow(100, 101));
+        assertEquals(200, policy.grow(100, 200));
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicies.fixedIncrement(0));
+    }
+
+    /**
+     * Тестируется ограничение прироста ёмкости
+     */
+    @Test
+    void shouldCapIncrement() {
+        GrowthPolicy policy = GrowthPolicies.capped(GrowthPolicies.doubling(), 1_000);
+        assertEquals(20, policy.grow(10, 11));
+        assertEquals(1_001_000, policy.grow(1_000_000, 1_000_001));
+        assertEquals(1_500_000, policy.grow(1_000_000, 1_500_000));
+    }
+
+    /**
+     * Тестируется уменьшение ёмкости с гистерезисом
+     */
+    @Test
+    void shouldShrinkWithHysteresis() {
+        GrowthPolicy policy = GrowthPolicies.shrinking(GrowthPolicies.oneAndHalf(), 16);
+        assertEquals(1_000, policy.shrink(1_000, 251));
+        assertEquals(500, policy.shrink(1_000, 250));
+        assertEquals(16, policy.shrink(1_000, 0));
+        assertEquals(16, policy.shrink(16, 0));
+    }
+
+    /**
+     * Тестируется отказ от уменьшения ёмкости у стандартных политик
+     */
+    @Test
+    void shouldNotShrinkByDefault() {
+        assertEquals(1_000, GrowthPolicies.oneAndHalf().shrink(1_000, 0));
+    }
+
+    /**
+     * Тестируется невозможность расширения сверх максимальной длины массива
+     */
+    @Test
+    void shouldThrowWhenRequiredCapacityTooLarge() {
+        assertThrows(OutOfMemoryError.class, () -> GrowthPolicies.oneAndHalf().grow(10, -5));
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса IntCustomArrayList
+ */
+class IntCustomArrayListTest {
+
+    private IntCustomArrayList list;
+
+    @BeforeEach
+    void init() {
+        list = new IntCustomArrayList();
+    }
+
+    /**
+     * Тестируется невозможность создания листа с отрицательной емкостью
+     */
+    @Test
+    void shouldThrowWhileCreation() {
+        assertThrows(IllegalArgumentException.class, () -> new IntCustomArrayList(-1));
+    }
+
+    /**
+     * Тестируется добавление, получение и замена элементов
+     */
+    @Test
+    void shouldAddGetAndReplace() {
+        for (int i = 0; i < 1_000; i++) {
+            list.addInt(i);
+        }
+        list.replaceInt(500, -1);
+        assertEquals(1_000, list.size());
+        assertEquals((int) 999, list.getInt(999));
+        assertEquals((int) -1, list.getInt(500));
+    }
+
+    /**
+     * Тестируется добавление и удаление элементов по индексу
+     */
+    @Test
+    void shouldInsertAndRemoveByIndex() {
+        list.addInt(1);
+        list.addInt(3);
+        list.addInt(1, 2);
+        list.addInt(0, 0);
+        assertArrayEquals(new int[]{0, 1, 2, 3}, list.toIntArray());
+        assertEquals((int) 2, list.removeInt(2));
+        assertArrayEquals(new int[]{0, 1, 3}, list.toIntArray());
+    }
+
+    /**
+     * Тестируется невозможность обращения по индексу за пределами списка
+     */
+    @Test
+    void shouldThrowWhenIndexOutOfSize() {
+        list.addInt(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeInt(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addInt(2, 1));
+    }
+
+    /**
+     * Тестируется очищение списка
+     */
+    @Test
+    void shouldClear() {
+        list.addInt(1);
+        list.clear();
+        assertEquals(0, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(0));
+    }
+
+    /**
+     * Тестируется сортировка случайных значений, включая отрицательные
+     */
+    @Test
+    void shouldSortRandomValues() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            list.addInt(random.nextInt());
+        }
+        int[] expected = list.toIntArray();
+        Arrays.sort(expected);
+        list.sort();
+        assertArrayEquals(expected, list.toIntArray());
+    }
+
+    /**
+     * Тестируется сортировка короткого списка
+     */
+    @Test
+    void shouldSortSmallList() {
+        list.addInt(3);
+        list.addInt(-1);
+        list.addInt(2);
+        list.sort();
+        assertArrayEquals(new int[]{-1, 2, 3}, list.toIntArray());
+    }
+
+    /**
+     * Тестируется равенство списков с одинаковыми элементами и разной емкостью
+     */
+    @Test
+    void shouldBeEqualWithDifferentCapacity() {
+        IntCustomArrayList other = new IntCustomArrayList(100);
+        list.addInt(1);
+        other.addInt(1);
+        assertEquals(list, other);
+        assertEquals(list.hashCode(), other.hashCode());
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Тесты для IntroSorter
+ */
+class IntroSorterTest {
+
+    private final IntroSorter<Integer> introSorter = new IntroSorter<>();
+
+    /**
+     * Тестируется корректность сортировки случайного массива
+     */
+    @Test
+    void shouldSortRandomArray() {
+        Random random = new Random(42);
+        Integer[] target = new Integer[100_000];
+        for (int i = 0; i < target.length; i++) {
+            target[i] = random.nextInt();
+        }
+        Integer[] expected = target.clone();
+        Arrays.sort(expected);
+        introSorter.sort(target, Integer::compareTo);
+        assertArrayEquals(expected, target);
+    }
+
+    /**
+     * Тестируется корректность сортировки массива с большим количеством одинаковых ключей
+     */
+    @Test
+    void shouldSortManyEqualKeys() {
+        Random random = new Random(7);
+        Integer[] target = new Integer[1_000_000];
+        for (int i = 0; i < target.length; i++) {
+            target[i] = random.nextInt(3);
+        }
+        Integer[] expected = target.clone();
+        Arrays.sort(expected);
+        introSorter.sort(target, Integer::compareTo);
+        assertArrayEquals(expected, target);
+    }
+
+    /**
+     * Тестируется сортировка массива из одинаковых элементов
+     */
+    @Test
+    void shouldSortAllEqual() {
+        Integer[] target = new Integer[1_000_000];
+        Arrays.fill(target, 5);
+        assertDoesNotThrow(() -> introSorter.sort(target, Integer::compareTo));
+    }
+
+    /**
+     * Тестируется сортировка упорядоченного и обратно упорядоченного массивов
+     */
+    @Test
+    void shouldSortSortedAndReversed() {
+        Integer[] sorted = new Integer[100_000];
+        Integer[] reversed = new Integer[100_000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+            reversed[i] = sorted.length - i;
+        }
+        Integer[] expectedReversed = reversed.clone();
+        Arrays.sort(expectedReversed);
+        Integer[] expectedSorted = sorted.clone();
+        introSorter.sort(sorted, Integer::compareTo);
+        introSorter.sort(reversed, Integer::compareTo);
+        assertArrayEquals(expectedSorted, sorted);
+        assertArrayEquals(expectedReversed, reversed);
+    }
+
+    /**
+     * Тестируется смещение null в конец диапазона и неизменность элементов за его пределами
+     */
+    @Test
+    void shouldSortRangeWithNulls() {
+        Integer[] target = new Integer[]{9, null, 3, 1, null, 2, 0};
+        Integer[] expected = new Integer[]{9, 1, 2, 3, null, null, 0};
+        introSorter.sort(target, 1, 6, Integer::compareTo);
+        assertArrayEquals(expected, target);
+    }
+
+    /**
+     * Тестируется сортировка в обратном порядке
+     */
+    @Test
+    void shouldSortWithReversedComparator() {
+        Integer[] target = new Integer[]{3, 1, 2, 5, 4};
+        introSorter.sort(target, Comparator.reverseOrder());
+        assertArrayEquals(new Integer[]{5, 4, 3, 2, 1}, target);
+    }
+
+    /**
+     * Тестируется невозможность сортировки диапазона выходящего за пределы массива
+     */
+    @Test
+    void shouldThrowWhenRangeOutOfBounds() {
+        Integer[] target = new Integer[]{2, 1};
+        assertThrows(IndexOutOfBoundsException.class, () -> introSorter.sort(target, -1, 2, Integer::compareTo));
+    }
+}
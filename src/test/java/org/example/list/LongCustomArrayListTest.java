@@ -0,0 +1,119 @@
+package org.example.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса LongCustomArrayList
+ */
+class LongCustomArrayListTest {
+
+    private LongCustomArrayList list;
+
+    @BeforeEach
+    void init() {
+        list = new LongCustomArrayList();
+    }
+
+    /**
+     * Тестируется невозможность создания листа с отрицательной емкостью
+     */
+    @Test
+    void shouldThrowWhileCreation() {
+        assertThrows(IllegalArgumentException.class, () -> new LongCustomArrayList(-1));
+    }
+
+    /**
+     * Тестируется добавление, получение и замена элементов
+     */
+    @Test
+    void shouldAddGetAndReplace() {
+        for (int i = 0; i < 1_000; i++) {
+            list.addLong(i);
+        }
+        list.replaceLong(500, -1);
+        assertEquals(1_000, list.size());
+        assertEquals((long) 999, list.getLong(999));
+        assertEquals((long) -1, list.getLong(500));
+    }
+
+    /**
+     * Тестируется добавление и удаление элементов по индексу
+     */
+    @Test
+    void shouldInsertAndRemoveByIndex() {
+        list.addLong(1);
+        list.addLong(3);
+        list.addLong(1, 2);
+        list.addLong(0, 0);
+        assertArrayEquals(new long[]{0, 1, 2, 3}, list.toLongArray());
+        assertEquals((long) 2, list.removeLong(2));
+        assertArrayEquals(new long[]{0, 1, 3}, list.toLongArray());
+    }
+
+    /**
+     * Тестируется невозможность обращения по индексу за пределами списка
+     */
+    @Test
+    void shouldThrowWhenIndexOutOfSize() {
+        list.addLong(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getLong(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeLong(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addLong(2, 1));
+    }
+
+    /**
+     * Тестируется очищение списка
+     */
+    @Test
+    void shouldClear() {
+        list.addLong(1);
+        list.clear();
+        assertEquals(0, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getLong(0));
+    }
+
+    /**
+     * Тестируется сортировка случайных значений, включая отрицательные
+     */
+    @Test
+    void shouldSortRandomValues() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            list.addLong(random.nextLong());
+        }
+        long[] expected = list.toLongArray();
+        Arrays.sort(expected);
+        list.sort();
+        assertArrayEquals(expected, list.toLongArray());
+    }
+
+    /**
+     * Тестируется сортировка короткого списка
+     */
+    @Test
+    void shouldSortSmallList() {
+        list.addLong(3);
+        list.addLong(-1);
+        list.addLong(2);
+        list.sort();
+        assertArrayEquals(new long[]{-1, 2, 3}, list.toLongArray());
+    }
+
+    /**
+     * Тестируется равенство списков с одинаковыми элементами и разной емкостью
+     */
+    @Test
+    void shouldBeEqualWithDifferentCapacity() {
+        LongCustomArrayList other = new LongCustomArrayList(100);
+        list.addLong(1);
+        other.addLong(1);
+        assertEquals(list, other);
+        assertEquals(list.hashCode(), other.hashCode());
+    }
+}
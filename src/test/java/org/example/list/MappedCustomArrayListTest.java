@@ -0,0 +1,92 @@
+package org.example.list;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса MappedCustomArrayList
+ */
+class MappedCustomArrayListTest {
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Тестируется сохранение списка в файл и повторное открытие
+     */
+    @Test
+    void shouldReloadAfterClose() throws IOException {
+        Path file = dir.resolve("list.bin");
+        try (MappedCustomArrayList<Long> list = MappedCustomArrayList.open(file, ElementCodecs.ofLong())) {
+            for (long i = 0; i < 1_000; i++) {
+                list.add(i);
+            }
+            list.add(0, -1L);
+            list.remove(1);
+        }
+        try (MappedCustomArrayList<Long> list = MappedCustomArrayList.open(file, ElementCodecs.ofLong())) {
+            assertEquals(1_000, list.size());
+            assertEquals(-1L, list.get(0));
+            assertEquals(999L, list.get(999));
+        }
+    }
+
+    /**
+     * Тестируется расширение файла крупными блоками при добавлении элементов
+     */
+    @Test
+    void shouldGrowInChunks() throws IOException {
+        Path file = dir.resolve("list.bin");
+        int count = 3 * MappedCustomArrayList.GROWTH_CHUNK / Long.BYTES;
+        try (MappedCustomArrayList<Long> list = MappedCustomArrayList.open(file, ElementCodecs.ofLong())) {
+            for (long i = 0; i < count; i++) {
+                list.add(i);
+            }
+            assertEquals(0, Files.size(file) % MappedCustomArrayList.GROWTH_CHUNK);
+            assertTrue(list.capacity() >= count);
+        }
+        try (MappedCustomArrayList<Long> list = MappedCustomArrayList.open(file, ElementCodecs.ofLong())) {
+            assertEquals(count, list.size());
+            assertEquals(count - 1L, list.get(count - 1));
+        }
+    }
+
+    /**
+     * Тестируется сохранение размера списка методом flush без закрытия файла
+     */
+    @Test
+    void shouldPersistSizeOnFlush() throws IOException {
+        Path file = dir.resolve("list.bin");
+        try (MappedCustomArrayList<Integer> list = MappedCustomArrayList.open(file, ElementCodecs.ofInt())) {
+            list.add(3);
+            list.add(1);
+            list.add(2);
+            list.sort(Comparator.naturalOrder());
+            list.flush();
+            try (MappedCustomArrayList<Integer> copy = MappedCustomArrayList.open(file, ElementCodecs.ofInt())) {
+                assertEquals("[1, 2, 3]", copy.toString());
+            }
+        }
+    }
+
+    /**
+     * Тестируется отказ открытия файла с другим размером элемента или без заголовка списка
+     */
+    @Test
+    void shouldRejectIncompatibleFile() throws IOException {
+        Path file = dir.resolve("list.bin");
+        MappedCustomArrayList.open(file, ElementCodecs.ofLong()).close();
+        assertThrows(IllegalArgumentException.class, () -> MappedCustomArrayList.open(file, ElementCodecs.ofInt()));
+
+        Path garbage = dir.resolve("garbage.bin");
+        Files.write(garbage, new byte[64]);
+        assertThrows(IOException.class, () -> MappedCustomArrayList.open(garbage, ElementCodecs.ofLong()));
+    }
+}
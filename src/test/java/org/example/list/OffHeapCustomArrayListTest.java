@@ -0,0 +1,139 @@
+package org.example.list;
+
+import org.example.list.api.ElementCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса OffHeapCustomArrayList
+ */
+class OffHeapCustomArrayListTest {
+
+    private OffHeapCustomArrayList<Long> list;
+
+    @BeforeEach
+    void init() {
+        list = new OffHeapCustomArrayList<>(ElementCodecs.ofLong());
+    }
+
+    /**
+     * Тестируется невозможность создания листа с отрицательной емкостью
+     */
+    @Test
+    void shouldThrowWhileCreation() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapCustomArrayList<>(-1, ElementCodecs.ofLong()));
+    }
+
+    /**
+     * Тестируется добавление, вставка, замена и удаление элементов с расширением буфера
+     */
+    @Test
+    void shouldAddInsertReplaceAndRemove() {
+        for (long i = 0; i < 10_000; i++) {
+            list.add(i);
+        }
+        list.add(0, -1L);
+        list.replace(1, 100L);
+        assertEquals(10_001, list.size());
+        assertEquals(-1L, list.get(0));
+        assertEquals(100L, list.remove(1));
+        assertEquals(1L, list.get(1));
+        assertEquals(9_999L, list.get(9_999));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(10_000));
+    }
+
+    /**
+     * Тестируется смещение элементов большего объема, чем размер временного массива перемещения
+     */
+    @Test
+    void shouldShiftLargeTail() {
+        for (long i = 0; i < 5_000; i++) {
+            list.add(i);
+        }
+        list.add(3, 42L);
+        list.remove(0);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(i + 1L, list.get(i));
+        }
+        assertEquals(42L, list.get(2));
+        for (int i = 3; i < list.size(); i++) {
+            assertEquals((long) i, list.get(i));
+        }
+    }
+
+    /**
+     * Тестируется сортировка элементов на месте в буфере и заданным Sorter, в том числе с большим
+     * количеством равных элементов
+     */
+    @Test
+    void shouldSort() {
+        Random random = new Random(42);
+        OffHeapCustomArrayList<Long> withSorter = new OffHeapCustomArrayList<>(16, ElementCodecs.ofLong(), new IntroSorter<>());
+        Long[] expected = new Long[20_000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i < 10_000 ? random.nextLong() : (long) random.nextInt(3);
+            list.add(expected[i]);
+            withSorter.add(expected[i]);
+        }
+        Arrays.sort(expected);
+        list.sort(Long::compareTo);
+        withSorter.sort(Long::compareTo);
+        assertArrayEquals(expected, list.toArray());
+        assertArrayEquals(expected, withSorter.toArray());
+    }
+
+    /**
+     * Тестируется хранение записей фиксированной структуры с пользовательским кодеком
+     */
+    @Test
+    void shouldStoreRecordsWithCustomCodec() {
+        OffHeapCustomArrayList<Tick> ticks = new OffHeapCustomArrayList<>(new TickCodec());
+        ticks.add(new Tick(3, 1.5));
+        ticks.add(new Tick(1, 2.5));
+        ticks.add(new Tick(2, 0.5));
+        ticks.sort(Comparator.comparingDouble(Tick::price));
+        assertEquals(new Tick(2, 0.5), ticks.get(0));
+        assertEquals(new Tick(1, 2.5), ticks.get(2));
+    }
+
+    /**
+     * Тестируется невозможность модификации списка во время работы итератора
+     */
+    @Test
+    void shouldThrowWhileIterating() {
+        list.add(1L);
+        Iterator<Long> iterator = list.iterator();
+        list.add(2L);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    private record Tick(long timestamp, double price) {
+    }
+
+    private static class TickCodec implements ElementCodec<Tick> {
+        @Override
+        public int size() {
+            return Long.BYTES + Double.BYTES;
+        }
+
+        @Override
+        public void encode(Tick tick, ByteBuffer buffer, int offset) {
+            buffer.putLong(offset, tick.timestamp());
+            buffer.putDouble(offset + Long.BYTES, tick.price());
+        }
+
+        @Override
+        public Tick decode(ByteBuffer buffer, int offset) {
+            return new Tick(buffer.getLong(offset), buffer.getDouble(offset + Long.BYTES));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Тесты для ParallelSorter
+ */
+class ParallelSorterTest {
+
+    /**
+     * Тестируется корректность сортировки случайного массива с небольшим порогом, при котором выполняется
+     * много параллельных слияний
+     */
+    @Test
+    void shouldSortRandomArrayWithSmallThreshold() {
+        ParallelSorter<Integer> parallelSorter = new ParallelSorter<>(64);
+        Integer[] target = randomArray(200_000, Integer.MAX_VALUE);
+        Integer[] expected = target.clone();
+        Arrays.sort(expected);
+        parallelSorter.sort(target, Integer::compareTo);
+        assertArrayEquals(expected, target);
+    }
+
+    /**
+     * Тестируется корректность сортировки массива с большим количеством одинаковых ключей
+     */
+    @Test
+    void shouldSortManyEqualKeys() {
+        ParallelSorter<Integer> parallelSorter = new ParallelSorter<>(1_000);
+        Integer[] target = randomArray(500_000, 4);
+        Integer[] expected = target.clone();
+        Arrays.sort(expected);
+        parallelSorter.sort(target, Integer::compareTo);
+        assertArrayEquals(expected, target);
+    }
+
+    /**
+     * Тестируется сортировка в собственном пуле потоков
+     */
+    @Test
+    void shouldSortInCustomPool() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            ParallelSorter<Integer> parallelSorter = new ParallelSorter<>(pool, 100);
+            Integer[] target = randomArray(50_000, 1_000);
+            Integer[] expected = target.clone();
+            Arrays.sort(expected);
+            parallelSorter.sort(target, Integer::compareTo);
+            assertArrayEquals(expected, target);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Тестируется завершение сортировки с порогом 1, при котором слияние доходит до частей из одного элемента
+     */
+    @Test
+    void shouldSortWithThresholdOne() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelSorter<Integer> parallelSorter = new ParallelSorter<>(pool, 1);
+            for (int length : new int[]{8, 100, 1_000}) {
+                Integer[] target = randomArray(length, 50);
+                Integer[] expected = target.clone();
+                Arrays.sort(expected);
+                parallelSorter.sort(target, Integer::compareTo);
+                assertArrayEquals(expected, target);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Тестируется смещение null в конец диапазона и неизменность элементов за его пределами
+     */
+    @Test
+    void shouldSortRangeWithNulls() {
+        ParallelSorter<Integer> parallelSorter = new ParallelSorter<>(1);
+        Integer[] target = new Integer[]{9, null, 3, 1, null, 2, 0};
+        Integer[] expected = new Integer[]{9, 1, 2, 3, null, null, 0};
+        parallelSorter.sort(target, 1, 6, Integer::compareTo);
+        assertArrayEquals(expected, target);
+    }
+
+    /**
+     * Тестируется невозможность создания сортировщика с неположительным порогом
+     */
+    @Test
+    void shouldThrowWhileCreationWithIllegalThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelSorter<Integer>(0));
+    }
+
+    private Integer[] randomArray(int length, int bound) {
+        Random random = new Random(length);
+        Integer[] array = new Integer[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = random.nextInt(bound);
+        }
+        return array;
+    }
+}
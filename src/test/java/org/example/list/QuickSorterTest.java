@@ -2,8 +2,14 @@ package org.example.list;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Тесты для QuickSorter
@@ -69,5 +75,84 @@ class QuickSorterTest {
         assertDoesNotThrow(() -> quickSorter.sort(target, String::compareTo));
     }
 
+    /**
+     * Тестируется сортировка диапазона массива без изменения элементов за его пределами
+     */
+    @Test
+    void shouldSortOnlyRange() {
+        String[] target = new String[]{"Z", "C", null, "A", "B", null, null};
+        String[] expected = new String[]{"Z", "A", "B", "C", null, null, null};
+        quickSorter.sort(target, 1, 5, String::compareTo);
+        for (int i = 0; i < target.length; i++) {
+            assertEquals(expected[i], target[i]);
+        }
+    }
+
+    /**
+     * Тестируется невозможность сортировки диапазона выходящего за пределы массива
+     */
+    @Test
+    void shouldThrowWhenRangeOutOfBounds() {
+        String[] target = new String[]{"B", "A"};
+        assertThrows(IndexOutOfBoundsException.class, () -> quickSorter.sort(target, 0, 3, String::compareTo));
+    }
+
+    /**
+     * Тестируется корректность сортировки со всеми стандартными стратегиями выбора опорного элемента
+     */
+    @Test
+    void shouldSortWithEveryPivotStrategy() {
+        Random random = new Random(11);
+        for (StandardPivotStrategy strategy : StandardPivotStrategy.values()) {
+            QuickSorter<Integer> sorter = new QuickSorter<>(strategy);
+            Integer[] target = new Integer[10_000];
+            for (int i = 0; i < target.length; i++) {
+                target[i] = random.nextInt();
+            }
+            Integer[] expected = target.clone();
+            Arrays.sort(expected);
+            sorter.sort(target, Integer::compareTo);
+            assertArrayEquals(expected, target, strategy.name());
+        }
+    }
+
+    /**
+     * Тестируется что стандартные стратегии выбирают опорный элемент в пределах диапазона
+     */
+    @Test
+    void shouldSelectPivotInsideRange() {
+        Integer[] data = new Integer[1_000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = data.length - i;
+        }
+        for (StandardPivotStrategy strategy : StandardPivotStrategy.values()) {
+            int index = strategy.pivotIndex(data, 100, 899, Integer::compareTo);
+            assertTrue(index >= 100 && index <= 899, strategy.name());
+        }
+    }
+
+    /**
+     * Тестируется выбор k-го элемента в поддиапазоне массива с повторяющимися ключами
+     */
+    @Test
+    void shouldSelectKthInRange() {
+        Random random = new Random(24);
+        for (StandardPivotStrategy strategy : StandardPivotStrategy.values()) {
+            QuickSorter<Integer> sorter = new QuickSorter<>(strategy);
+            Integer[] target = new Integer[2_000];
+            for (int i = 0; i < target.length; i++) {
+                target[i] = random.nextInt(20);
+            }
+            Integer[] expected = Arrays.copyOfRange(target, 100, 1_900);
+            Arrays.sort(expected);
+            sorter.select(target, 100, 1_900, 1_000, Integer::compareTo);
+            assertEquals(expected[900], target[1_000], strategy.name());
+            for (int i = 100; i < 1_000; i++) {
+                assertTrue(target[i] <= target[1_000], strategy.name());
+            }
+        }
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> new QuickSorter<Integer>().select(new Integer[10], 0, 5, 5, Integer::compareTo));
+    }
 
-}
\ No newline at end of file
+}
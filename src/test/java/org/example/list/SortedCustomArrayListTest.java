@@ -0,0 +1,131 @@
+package org.example.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса SortedCustomArrayList
+ */
+class SortedCustomArrayListTest {
+
+    private SortedCustomArrayList<Integer> list;
+
+    @BeforeEach
+    void init() {
+        list = new SortedCustomArrayList<>(Comparator.naturalOrder());
+    }
+
+    /**
+     * Тестируется сохранение порядка при вставке случайных элементов
+     */
+    @Test
+    void shouldKeepOrderOnInsert() {
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(21);
+        for (int i = 0; i < 5_000; i++) {
+            int value = random.nextInt(1_000);
+            list.add(value);
+            expected.add(value);
+        }
+        list.add(null);
+        expected.add(null);
+        expected.sort(Comparator.nullsLast(Comparator.naturalOrder()));
+        assertArrayEquals(expected.toArray(), list.toArray());
+    }
+
+    /**
+     * Тестируется бинарный поиск и границы диапазонов
+     */
+    @Test
+    void shouldSearchAndReturnBounds() {
+        for (int value : new int[]{5, 1, 3, 3, 3, 9, 7}) {
+            list.insertSorted(value);
+        }
+        assertEquals("[1, 3, 3, 3, 5, 7, 9]", list.toString());
+        assertEquals(1, list.binarySearch(3));
+        assertEquals(-5, list.binarySearch(4));
+        assertEquals(1, list.lowerBound(3));
+        assertEquals(4, list.upperBound(3));
+        assertEquals(new SortedCustomArrayList.Range(1, 4), list.equalRange(3));
+        assertEquals(new SortedCustomArrayList.Range(1, 5), list.range(2, 6));
+        assertTrue(list.range(8, 2).isEmpty());
+        assertTrue(list.contains(7));
+        assertEquals(-1, list.indexOf(8));
+        assertEquals(3, list.lastIndexOf(3));
+    }
+
+    /**
+     * Тестируется устойчивость вставки: равные элементы хранятся в порядке добавления
+     */
+    @Test
+    void shouldInsertAfterEqualElements() {
+        SortedCustomArrayList<String> strings = new SortedCustomArrayList<>(Comparator.comparingInt(String::length));
+        strings.add("bb");
+        strings.add("a");
+        strings.add("cc");
+        assertEquals(3, strings.insertSorted("dd"));
+        assertEquals("[a, bb, cc, dd]", strings.toString());
+    }
+
+    /**
+     * Тестируется отказ операций, нарушающих порядок списка
+     */
+    @Test
+    void shouldRejectOrderViolations() {
+        list.add(1);
+        list.add(5);
+        list.add(1, 3);
+        list.replace(1, 4);
+        assertThrows(IllegalArgumentException.class, () -> list.add(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> list.replace(0, 6));
+        assertThrows(UnsupportedOperationException.class, () -> list.sort(Comparator.reverseOrder()));
+        list.sort(list.comparator());
+        assertEquals("[1, 4, 5]", list.toString());
+    }
+
+    /**
+     * Тестируется массовое добавление: элементы сливаются с содержимым списка, равные элементы
+     * располагаются после уже добавленных в порядке добавления
+     */
+    @Test
+    void shouldMergeBulkAdditions() {
+        Random random = new Random(21);
+        List<Integer> expected = new ArrayList<>();
+        List<Integer> batch = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            Integer value = i % 997 == 0 ? null : random.nextInt(50_000);
+            (i < 100_000 ? expected : batch).add(value);
+        }
+        list.addAll(expected);
+        list.addAll(batch.toArray(new Integer[0]));
+        expected.addAll(batch);
+        expected.sort(Comparator.nullsLast(Comparator.naturalOrder()));
+        assertArrayEquals(expected.toArray(), list.toArray());
+
+        SortedCustomArrayList<String> words = new SortedCustomArrayList<>(Comparator.comparingInt(String::length));
+        words.addAll(List.of("bb", "a", "ccc"));
+        CustomArrayList<String> more = new CustomArrayList<>();
+        more.addAll(new String[]{"dd", "e", "ff"});
+        words.addAll(more);
+        assertEquals("[a, e, bb, dd, ff, ccc]", words.toString());
+    }
+
+    /**
+     * Тестируется проверка порядка всего массива до вставки по индексу
+     */
+    @Test
+    void shouldRejectUnorderedBatchAtIndex() {
+        list.addAll(List.of(1, 5, 9));
+        list.addAll(1, new Integer[]{2, 3, 4});
+        assertThrows(IllegalArgumentException.class, () -> list.addAll(4, List.of(6, 10, 7)));
+        assertThrows(IllegalArgumentException.class, () -> list.addAll(4, List.of(6, 10)));
+        assertEquals("[1, 2, 3, 4, 5, 9]", list.toString());
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Тесты для TimSorter
+ */
+class TimSorterTest {
+
+    /**
+     * Тестируется корректность сортировки случайного массива
+     */
+    @Test
+    void shouldSortRandomArray() {
+        TimSorter<Integer> timSorter = new TimSorter<>();
+        Random random = new Random(42);
+        Integer[] target = new Integer[100_000];
+        for (int i = 0; i < target.length; i++) {
+            target[i] = random.nextInt();
+        }
+        Integer[] expected = target.clone();
+        Arrays.sort(expected);
+        timSorter.sort(target, Integer::compareTo);
+        assertArrayEquals(expected, target);
+    }
+
+    /**
+     * Тестируется корректность сортировки почти упорядоченного массива
+     */
+    @Test
+    void shouldSortNearlySortedArray() {
+        TimSorter<Integer> timSorter = new TimSorter<>();
+        Random random = new Random(1);
+        Integer[] target = new Integer[100_000];
+        for (int i = 0; i < target.length; i++) {
+            target[i] = i;
+        }
+        for (int i = 0; i < 100; i++) {
+            SortSupport.swap(target, random.nextInt(target.length), random.nextInt(target.length));
+        }
+        Integer[] expected = target.clone();
+        Arrays.sort(expected);
+        timSorter.sort(target, Integer::compareTo);
+        assertArrayEquals(expected, target);
+    }
+
+    /**
+     * Тестируется сохранение исходного порядка равных элементов
+     */
+    @Test
+    void shouldBeStable() {
+        TimSorter<int[]> timSorter = new TimSorter<>();
+        Random random = new Random(3);
+        int[][] target = new int[50_000][];
+        for (int i = 0; i < target.length; i++) {
+            target[i] = new int[]{random.nextInt(10), i};
+        }
+        timSorter.sort(target, Comparator.comparingInt(pair -> pair[0]));
+        for (int i = 1; i < target.length; i++) {
+            if (target[i - 1][0] == target[i][0]) {
+                assertEquals(-1, Integer.compare(target[i - 1][1], target[i][1]));
+            } else {
+                assertEquals(-1, Integer.compare(target[i - 1][0], target[i][0]));
+            }
+        }
+    }
+
+    /**
+     * Тестируется переиспользование сортировщика для нескольких массивов разной длины
+     */
+    @Test
+    void shouldSortSeveralArraysWithOneInstance() {
+        TimSorter<Integer> timSorter = new TimSorter<>();
+        Random random = new Random(5);
+        for (int length : new int[]{10, 100_000, 31, 5_000}) {
+            Integer[] target = new Integer[length];
+            for (int i = 0; i < length; i++) {
+                target[i] = random.nextInt(length);
+            }
+            Integer[] expected = target.clone();
+            Arrays.sort(expected);
+            timSorter.sort(target, Integer::compareTo);
+            assertArrayEquals(expected, target);
+        }
+    }
+
+    /**
+     * Тестируется смещение null в конец диапазона с сохранением порядка остальных элементов
+     */
+    @Test
+    void shouldSortRangeWithNulls() {
+        TimSorter<String> timSorter = new TimSorter<>();
+        String[] target = new String[]{"Z", null, "C", "A", null, "B", "Y"};
+        String[] expected = new String[]{"Z", "A", "B", "C", null, null, "Y"};
+        timSorter.sort(target, 1, 6, String::compareTo);
+        assertArrayEquals(expected, target);
+    }
+
+    /**
+     * Тестируется невозможность сортировки диапазона выходящего за пределы массива
+     */
+    @Test
+    void shouldThrowWhenRangeOutOfBounds() {
+        TimSorter<String> timSorter = new TimSorter<>();
+        String[] target = new String[]{"B", "A"};
+        assertThrows(IndexOutOfBoundsException.class, () -> timSorter.sort(target, 1, 0, String::compareTo));
+    }
+}